@@ -1,14 +0,0 @@
-//********************************************************************
-//  Constants.java
-//
-//  Author: David J. Gardner
-//  Date: 4/27/18
-//
-//  Game level enumeration.
-//********************************************************************
-
-public enum GameLevel {
-    BEGINNER,
-    INTERMEDIATE,
-    EXPERT
-}
\ No newline at end of file
@@ -0,0 +1,31 @@
+//********************************************************************
+//  BenchmarkMain.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  Runs the engine benchmarks with the GC profiler, so every result
+//  reports allocation (gc.alloc.rate.norm, bytes/op) next to the
+//  score.  An optional argument selects benchmarks by regular
+//  expression, e.g. "MarkTile".
+//********************************************************************
+
+package benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(args.length > 0 ? args[0] : "benchmarks\\..*Benchmark")
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,128 @@
+//********************************************************************
+//  BoardAccessBenchmark.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  Reading the board: getTiles/getMines over the whole board in row
+//  order, in column order and at random positions, and rendering the
+//  board with toStringBoard.  Sweeps return a sum so the reads can
+//  not be optimised away.
+//********************************************************************
+
+package benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardAccessBenchmark {
+    // random positions read per randomAccess call.
+    private static final int RANDOM_READS = 4096;
+
+    @Param({"BEGINNER", "EXPERT", "LARGE"})
+    BoardSize size;
+
+    // a board with about half of its safe tiles opened.
+    private Object game;
+    // random positions, row * cols + col.
+    private int[] positions;
+
+    @Setup
+    public void setup() {
+        int rows = this.size.rows;
+        int cols = this.size.cols;
+        SplittableRandom random = new SplittableRandom(7);
+
+        this.game = Engine.newGame(rows, cols, this.size.mines, 7);
+
+        for (int i = 0; i < rows * cols / 2; i++) {
+            int row = random.nextInt(rows);
+            int col = random.nextInt(cols);
+
+            if (Engine.getMines(this.game, row, col) != Engine.MINE) {
+                Engine.markTile(this.game, row, col, Engine.OPENED);
+            }
+        }
+
+        this.positions = new int[RANDOM_READS];
+
+        for (int i = 0; i < RANDOM_READS; i++) {
+            this.positions[i] = random.nextInt(rows * cols);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Reads every tile and mine value, row by row.
+    //-----------------------------------------------------------------
+    @Benchmark
+    public int rowMajor() {
+        int sum = 0;
+
+        for (int row = 0; row < this.size.rows; row++) {
+            for (int col = 0; col < this.size.cols; col++) {
+                sum += Engine.getTiles(this.game, row, col) + Engine.getMines(this.game, row, col);
+            }
+        }
+
+        return sum;
+    }
+
+    //-----------------------------------------------------------------
+    //  Reads every tile and mine value, column by column.
+    //-----------------------------------------------------------------
+    @Benchmark
+    public int columnMajor() {
+        int sum = 0;
+
+        for (int col = 0; col < this.size.cols; col++) {
+            for (int row = 0; row < this.size.rows; row++) {
+                sum += Engine.getTiles(this.game, row, col) + Engine.getMines(this.game, row, col);
+            }
+        }
+
+        return sum;
+    }
+
+    //-----------------------------------------------------------------
+    //  Reads tile and mine values at random positions.
+    //-----------------------------------------------------------------
+    @Benchmark
+    public int randomAccess() {
+        int cols = this.size.cols;
+        int sum = 0;
+
+        for (int position : this.positions) {
+            int row = position / cols;
+            int col = position - row * cols;
+            sum += Engine.getTiles(this.game, row, col) + Engine.getMines(this.game, row, col);
+        }
+
+        return sum;
+    }
+
+    //-----------------------------------------------------------------
+    //  Renders the board view.
+    //-----------------------------------------------------------------
+    @Benchmark
+    public String toStringBoard() {
+        return Engine.toStringBoard(this.game);
+    }
+}
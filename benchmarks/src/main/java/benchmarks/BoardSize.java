@@ -0,0 +1,25 @@
+//********************************************************************
+//  BoardSize.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  Board sizes the benchmarks run at, chosen by the size @Param.
+//********************************************************************
+
+package benchmarks;
+
+enum BoardSize {
+    BEGINNER(9, 9, 10),
+    EXPERT(16, 30, 99),
+    LARGE(1000, 1000, 150_000);
+
+    // board dimensions and mine count.
+    final int rows, cols, mines;
+
+    BoardSize(int rows, int cols, int mines) {
+        this.rows = rows;
+        this.cols = cols;
+        this.mines = mines;
+    }
+}
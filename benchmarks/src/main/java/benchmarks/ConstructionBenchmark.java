@@ -0,0 +1,63 @@
+//********************************************************************
+//  ConstructionBenchmark.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  Board generation: mine placement plus clue calculation, either in
+//  a new engine instance or reusing one through newGame.
+//********************************************************************
+
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstructionBenchmark {
+    @Param({"BEGINNER", "EXPERT", "LARGE"})
+    BoardSize size;
+
+    // engine reused by the newGame benchmark.
+    private Object game;
+    // seed of the next board, so every board differs.
+    private long seed;
+
+    @Setup
+    public void setup() {
+        this.game = Engine.newGame(this.size.rows, this.size.cols, this.size.mines, 0);
+    }
+
+    //-----------------------------------------------------------------
+    //  New engine instance per board.
+    //-----------------------------------------------------------------
+    @Benchmark
+    public Object construct() {
+        return Engine.newGame(this.size.rows, this.size.cols, this.size.mines, ++this.seed);
+    }
+
+    //-----------------------------------------------------------------
+    //  Same engine instance regenerated in place.
+    //-----------------------------------------------------------------
+    @Benchmark
+    public Object newGame() {
+        Engine.reset(this.game, ++this.seed);
+        return this.game;
+    }
+}
@@ -0,0 +1,150 @@
+//********************************************************************
+//  Engine.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  Access to the game engine from the benchmarks.  The engine classes
+//  are in the default package, which a named package can not import,
+//  and JMH does not accept benchmarks in the default package, so the
+//  engine is reached through method handles.  The handles are static
+//  final, which lets the JIT compile each call as a direct call.
+//********************************************************************
+
+package benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+final class Engine {
+    // tile values, see Constants.
+    static final int OPENED = 0, CLOSED = 1, QUESTION = 2, FLAG = 3;
+    // mine value, see Constants.
+    static final int MINE = 9;
+
+    // new minesweeper(rows, cols, mines, seed)
+    static final MethodHandle NEW_GAME;
+    // game.newGame(seed)
+    static final MethodHandle RESET;
+    // game.markTile(row, col, tile)
+    static final MethodHandle MARK_TILE;
+    // game.getTiles(row, col)
+    static final MethodHandle GET_TILES;
+    // game.getMines(row, col)
+    static final MethodHandle GET_MINES;
+    // game.getChangedCells()
+    static final MethodHandle GET_CHANGED_CELLS;
+    // game.toStringBoard()
+    static final MethodHandle TO_STRING_BOARD;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> game = Class.forName("minesweeper");
+            MethodType object = MethodType.methodType(Object.class);
+
+            NEW_GAME = lookup.findConstructor(game,
+                            MethodType.methodType(void.class, int.class, int.class, int.class, long.class))
+                    .asType(MethodType.methodType(Object.class, int.class, int.class, int.class, long.class));
+            RESET = lookup.findVirtual(game, "newGame", MethodType.methodType(void.class, long.class))
+                    .asType(MethodType.methodType(void.class, Object.class, long.class));
+            MARK_TILE = lookup.findVirtual(game, "markTile",
+                            MethodType.methodType(void.class, int.class, int.class, int.class))
+                    .asType(MethodType.methodType(void.class, Object.class, int.class, int.class, int.class));
+            GET_TILES = lookup.findVirtual(game, "getTiles", MethodType.methodType(int.class, int.class, int.class))
+                    .asType(MethodType.methodType(int.class, Object.class, int.class, int.class));
+            GET_MINES = lookup.findVirtual(game, "getMines", MethodType.methodType(int.class, int.class, int.class))
+                    .asType(MethodType.methodType(int.class, Object.class, int.class, int.class));
+            GET_CHANGED_CELLS = lookup.findVirtual(game, "getChangedCells", MethodType.methodType(int[].class))
+                    .asType(MethodType.methodType(int[].class, Object.class));
+            TO_STRING_BOARD = lookup.findVirtual(game, "toStringBoard", MethodType.methodType(String.class))
+                    .asType(MethodType.methodType(String.class, Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Not instantiable.
+    //-----------------------------------------------------------------
+    private Engine() {
+    }
+
+    //-----------------------------------------------------------------
+    //  Creates a game.
+    //-----------------------------------------------------------------
+    static Object newGame(int rows, int cols, int mines, long seed) {
+        try {
+            return (Object) NEW_GAME.invokeExact(rows, cols, mines, seed);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Starts a new game on the same engine instance.
+    //-----------------------------------------------------------------
+    static void reset(Object game, long seed) {
+        try {
+            RESET.invokeExact(game, seed);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Marks a tile.
+    //-----------------------------------------------------------------
+    static void markTile(Object game, int row, int col, int tile) {
+        try {
+            MARK_TILE.invokeExact(game, row, col, tile);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Tile value of row,col.
+    //-----------------------------------------------------------------
+    static int getTiles(Object game, int row, int col) {
+        try {
+            return (int) GET_TILES.invokeExact(game, row, col);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Mine or clue value of row,col.
+    //-----------------------------------------------------------------
+    static int getMines(Object game, int row, int col) {
+        try {
+            return (int) GET_MINES.invokeExact(game, row, col);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Cells changed by the last markTile.
+    //-----------------------------------------------------------------
+    static int[] getChangedCells(Object game) {
+        try {
+            return (int[]) GET_CHANGED_CELLS.invokeExact(game);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Board view string.
+    //-----------------------------------------------------------------
+    static String toStringBoard(Object game) {
+        try {
+            return (String) TO_STRING_BOARD.invokeExact(game);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
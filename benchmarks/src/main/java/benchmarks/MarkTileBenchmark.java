@@ -0,0 +1,120 @@
+//********************************************************************
+//  MarkTileBenchmark.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  markTile opening paths: a single clue tile, and the blank tile
+//  with the largest flood fill.  An open only does work on a fresh
+//  board, so these run as single shots: each measured iteration opens
+//  the tile once on each of BATCH boards reset before the iteration,
+//  keeping the resets and JMH's per-call timestamps out of the score.
+//  Flag and question toggling is in TileToggleBenchmark.
+//********************************************************************
+
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20, batchSize = MarkTileBenchmark.BATCH)
+@Measurement(iterations = 20, batchSize = MarkTileBenchmark.BATCH)
+@Fork(1)
+public class MarkTileBenchmark {
+    // opens per measured iteration, one per board.
+    static final int BATCH = 32;
+    // seed of the benchmark boards.
+    private static final long SEED = 42;
+
+    @Param({"BEGINNER", "EXPERT", "LARGE"})
+    BoardSize size;
+
+    // the boards, reset to SEED before each iteration.
+    private final Object[] games = new Object[BATCH];
+    // next board to open a tile on.
+    private int next;
+    // a tile with a clue of 1 or more.
+    private int clueRow, clueCol;
+    // the blank tile opening the most tiles.
+    private int blankRow, blankCol;
+
+    @Setup(Level.Trial)
+    public void findTiles() {
+        Object game = Engine.newGame(this.size.rows, this.size.cols, this.size.mines, SEED);
+        boolean clueFound = false;
+        int largestArea = -1;
+
+        // open every blank tile once, remembering the largest area.
+        for (int row = 0; row < this.size.rows; row++) {
+            for (int col = 0; col < this.size.cols; col++) {
+                int mine = Engine.getMines(game, row, col);
+
+                if (mine > 0 && mine < Engine.MINE && !clueFound) {
+                    clueFound = true;
+                    this.clueRow = row;
+                    this.clueCol = col;
+                }
+
+                if (mine == 0 && Engine.getTiles(game, row, col) != Engine.OPENED) {
+                    Engine.markTile(game, row, col, Engine.OPENED);
+                    int area = Engine.getChangedCells(game).length;
+
+                    if (area > largestArea) {
+                        largestArea = area;
+                        this.blankRow = row;
+                        this.blankCol = col;
+                    }
+                }
+            }
+        }
+
+        this.games[0] = game;
+
+        for (int i = 1; i < BATCH; i++) {
+            this.games[i] = Engine.newGame(this.size.rows, this.size.cols, this.size.mines, SEED);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetBoards() {
+        for (Object game : this.games) {
+            Engine.reset(game, SEED);
+        }
+        this.next = 0;
+    }
+
+    //-----------------------------------------------------------------
+    //  Opens one clue tile, no flood fill.
+    //-----------------------------------------------------------------
+    @Benchmark
+    public Object openClue() {
+        Object game = this.games[this.next++ % BATCH];
+        Engine.markTile(game, this.clueRow, this.clueCol, Engine.OPENED);
+        return game;
+    }
+
+    //-----------------------------------------------------------------
+    //  Opens the blank tile with the largest flood fill.
+    //-----------------------------------------------------------------
+    @Benchmark
+    public Object openLargestArea() {
+        Object game = this.games[this.next++ % BATCH];
+        Engine.markTile(game, this.blankRow, this.blankCol, Engine.OPENED);
+        return game;
+    }
+}
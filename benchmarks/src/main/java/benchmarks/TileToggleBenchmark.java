@@ -0,0 +1,78 @@
+//********************************************************************
+//  TileToggleBenchmark.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  markTile marking paths: a closed tile flagged or question-marked
+//  and closed again.  Each call leaves the board as it found it, so
+//  one board serves the whole trial with no reset between calls.
+//********************************************************************
+
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TileToggleBenchmark {
+    // seed of the benchmark board.
+    private static final long SEED = 42;
+
+    @Param({"BEGINNER", "EXPERT", "LARGE"})
+    BoardSize size;
+
+    // the board, never changed between calls.
+    private Object game;
+    // the closed tile toggled, the first one without a mine.
+    private int toggleRow, toggleCol;
+
+    @Setup(Level.Trial)
+    public void findTile() {
+        this.game = Engine.newGame(this.size.rows, this.size.cols, this.size.mines, SEED);
+
+        while (Engine.getMines(this.game, this.toggleRow, this.toggleCol) == Engine.MINE) {
+            if (++this.toggleCol == this.size.cols) {
+                this.toggleCol = 0;
+                this.toggleRow++;
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Flags a tile and closes it again.
+    //-----------------------------------------------------------------
+    @Benchmark
+    public Object toggleFlag() {
+        Engine.markTile(this.game, this.toggleRow, this.toggleCol, Engine.FLAG);
+        Engine.markTile(this.game, this.toggleRow, this.toggleCol, Engine.CLOSED);
+        return this.game;
+    }
+
+    //-----------------------------------------------------------------
+    //  Question-marks a tile and closes it again.
+    //-----------------------------------------------------------------
+    @Benchmark
+    public Object toggleQuestion() {
+        Engine.markTile(this.game, this.toggleRow, this.toggleCol, Engine.QUESTION);
+        Engine.markTile(this.game, this.toggleRow, this.toggleCol, Engine.CLOSED);
+        return this.game;
+    }
+}
@@ -0,0 +1,62 @@
+//********************************************************************
+//  BoardCells.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  Packed cell format shared by the board implementations.  Each
+//  cell is held in a single byte: the low four bits hold the mine
+//  or clue value (0-8 clue, 9 mine) and the next two bits hold the
+//  tile value (0 open, 1 closed, 2 question, 3 flag).
+//********************************************************************
+
+public final class BoardCells {
+
+    // bits holding the mine/clue value.
+    public static final int MINE_MASK = 0x0F;
+    // bits holding the tile value.
+    public static final int TILE_MASK = 0x30;
+    // position of the tile value within the cell.
+    public static final int TILE_SHIFT = 4;
+
+    //-----------------------------------------------------------------
+    //  Not instantiable.
+    //-----------------------------------------------------------------
+    private BoardCells() {
+    }
+
+    //-----------------------------------------------------------------
+    //  Mine/clue value of a packed cell.
+    //-----------------------------------------------------------------
+    public static int mine(byte cell) {
+        return cell & MINE_MASK;
+    }
+
+    //-----------------------------------------------------------------
+    //  Tile value of a packed cell.
+    //-----------------------------------------------------------------
+    public static int tile(byte cell) {
+        return (cell & TILE_MASK) >>> TILE_SHIFT;
+    }
+
+    //-----------------------------------------------------------------
+    //  Packed cell with the mine/clue value replaced.
+    //-----------------------------------------------------------------
+    public static byte withMine(byte cell, int mine) {
+        return (byte) ((cell & ~MINE_MASK) | (mine & MINE_MASK));
+    }
+
+    //-----------------------------------------------------------------
+    //  Packed cell with the tile value replaced.
+    //-----------------------------------------------------------------
+    public static byte withTile(byte cell, int tile) {
+        return (byte) ((cell & ~TILE_MASK) | ((tile << TILE_SHIFT) & TILE_MASK));
+    }
+
+    //-----------------------------------------------------------------
+    //  Packed cell from a mine/clue value and a tile value.
+    //-----------------------------------------------------------------
+    public static byte cell(int mine, int tile) {
+        return (byte) ((mine & MINE_MASK) | ((tile << TILE_SHIFT) & TILE_MASK));
+    }
+}
@@ -0,0 +1,15 @@
+//********************************************************************
+//  BoardEngine.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  Board generation engine enumeration.  CELLWISE computes each clue
+//  from its 3x3 neighbourhood, BITBOARD holds the mines as long words
+//  and computes 64 clues at a time.
+//********************************************************************
+
+public enum BoardEngine {
+    CELLWISE,
+    BITBOARD
+}
@@ -0,0 +1,691 @@
+//********************************************************************
+//  ChunkedMinesweeper.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  Endless minesweeper board.  The board is split into 64 x 64
+//  chunks that are generated from the world seed and the chunk
+//  coordinates the first time they are touched, so any row and
+//  column is valid.  Clues at chunk edges count the mines of the
+//  neighbouring chunks, which are regenerated from the same seed.
+//  Only the most recently used chunks are kept; evicted chunks that
+//  were played on keep just their tile values, packed 2 bits per
+//  tile, and are rebuilt from the seed when touched again.
+//
+//  Saved tile values are spilled to a file, 1 KB per chunk, so the
+//  heap only grows by a 12 byte index entry for each chunk played on
+//  and then evicted.  The spill file is scratch space: its index is
+//  only kept in memory, so it cannot be reopened, and it is deleted
+//  by close at the latest.  It is a temporary file unless a new file
+//  is named to the constructor.
+//
+//  getRows and getCols return GameData.UNBOUNDED and getChangedCells
+//  is always empty; use getChangedPositions.  Reads load and evict
+//  chunks, so even getMines and getTiles change the object; it does
+//  not support concurrent reads and ConcurrentGame refuses to wrap it.
+//********************************************************************
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+public class ChunkedMinesweeper implements GameData, Closeable {
+    // chunk edge length, as a shift and as a size.
+    public static final int CHUNK_SHIFT = 6;
+    public static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    // mask of the position within a chunk.
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    // cells in one chunk.
+    private static final int CHUNK_CELLS = CHUNK_SIZE * CHUNK_SIZE;
+    // bytes of saved tile values per chunk, 2 bits per tile.
+    private static final int SAVED_SIZE = CHUNK_CELLS / 4;
+    // marks an empty slot of the spill index.
+    private static final int NO_SLOT = -1;
+    // lowest mine density.  below about 10% the blank areas of an
+    // endless board can grow without bound, so one click would never end.
+    public static final double MIN_DENSITY = 0.15;
+    // fewest chunks kept in memory: a chunk and its eight neighbours,
+    // whose mines its edge clues count.
+    public static final int MIN_CHUNKS = 9;
+
+    // seed every chunk is generated from.
+    private final long worldSeed;
+    // mines in every chunk.
+    private final int chunkMines;
+
+    // chunks in memory, least recently used first.
+    private final LinkedHashMap<Long, Chunk> chunks;
+    // file holding the tile values of evicted chunks that were
+    // played on, opened on the first such eviction.
+    private FileChannel spill;
+    // where the spill file goes, null for a temporary file.
+    private final Path spillPath;
+    // spill index, open addressing from chunk key to file slot.
+    private long[] spillKeys = new long[64];
+    private int[] spillSlots = newSlots(64);
+    // number of slots used in the spill file.
+    private int spillCount;
+    // buffer for one chunk of saved tile values.
+    private final ByteBuffer savedTiles = ByteBuffer.allocate(SAVED_SIZE);
+
+    // last chunk looked up, to skip the map for neighbouring cells.
+    private Chunk lastChunk;
+
+    // game status, an endless board can only be lost.
+    private GameStatus status = GameStatus.PLAY;
+    // listeners called when the game status changes.
+    private final List<GameStatusListener> statusListeners = new ArrayList<>();
+
+    // running count of tile value changes.
+    private int tileChanges;
+    // positions changed by the last markTile, see position().
+    private long[] changedPositions = new long[16];
+    // number of entries in use in changedPositions.
+    private int changedCount;
+
+    // work queue of positions for opening blank areas.
+    private long[] floodQueue = new long[64];
+
+    //-----------------------------------------------------------------
+    //  Constructor.  Accepts the world seed, the fraction of cells
+    //  holding a mine, MIN_DENSITY to 1, and the number of chunks to
+    //  keep in memory, at least MIN_CHUNKS.  Evicted tiles go to a
+    //  temporary file.
+    //-----------------------------------------------------------------
+    public ChunkedMinesweeper(long worldSeed, double density, int maxChunks) {
+        this(worldSeed, density, maxChunks, null);
+    }
+
+    //-----------------------------------------------------------------
+    //  Constructor.  Also accepts the file evicted tiles are spilled
+    //  to, null for a temporary file.  The file must not exist; it is
+    //  created on the first spill and deleted by close at the latest.
+    //-----------------------------------------------------------------
+    public ChunkedMinesweeper(long worldSeed, double density, int maxChunks, Path spillPath) {
+        if (!(density >= MIN_DENSITY && density <= 1.0)) {
+            throw new IllegalArgumentException("density must be " + MIN_DENSITY + " to 1: " + density);
+        }
+
+        if (maxChunks < MIN_CHUNKS) {
+            throw new IllegalArgumentException("must keep at least " + MIN_CHUNKS + " chunks: " + maxChunks);
+        }
+
+        if (spillPath != null && Files.exists(spillPath)) {
+            throw new IllegalArgumentException("spill file already exists: " + spillPath);
+        }
+
+        this.worldSeed = worldSeed;
+        this.spillPath = spillPath;
+        this.chunkMines = minesweeper.mineCountFor(CHUNK_SIZE, CHUNK_SIZE, density);
+
+        final int limit = maxChunks;
+
+        this.chunks = new LinkedHashMap<Long, Chunk>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Chunk> eldest) {
+                if (size() > limit) {
+                    evict(eldest.getKey(), eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    //-----------------------------------------------------------------
+    //  Game status accessor.
+    //-----------------------------------------------------------------
+    public GameStatus getGameStatus() {
+        return this.status;
+    }
+
+    //-----------------------------------------------------------------
+    //  Registers a listener called on every status transition.
+    //-----------------------------------------------------------------
+    public void addStatusListener(GameStatusListener listener) {
+        this.statusListeners.add(listener);
+    }
+
+    //-----------------------------------------------------------------
+    //  Removes a previously registered status listener.
+    //-----------------------------------------------------------------
+    public void removeStatusListener(GameStatusListener listener) {
+        this.statusListeners.remove(listener);
+    }
+
+    //-----------------------------------------------------------------
+    //  The board has no last row, every row index is valid.
+    //-----------------------------------------------------------------
+    public int getRows() {
+        return UNBOUNDED;
+    }
+
+    //-----------------------------------------------------------------
+    //  The board has no last column, every column index is valid.
+    //-----------------------------------------------------------------
+    public int getCols() {
+        return UNBOUNDED;
+    }
+
+    //-----------------------------------------------------------------
+    //  Mine accessor.  Generates the chunk if needed.
+    //-----------------------------------------------------------------
+    public int getMines(int row, int col) {
+        return BoardCells.mine(chunkAt(row, col).cells[cellIndex(row, col)]);
+    }
+
+    //-----------------------------------------------------------------
+    //  Tile accessor.  Generates the chunk if needed.
+    //-----------------------------------------------------------------
+    public int getTiles(int row, int col) {
+        return BoardCells.tile(chunkAt(row, col).cells[cellIndex(row, col)]);
+    }
+
+    //-----------------------------------------------------------------
+    //  Tile mutator.  Follows the minesweeper rules, except that an
+    //  endless board is never won: opening a mine loses the game.
+    //-----------------------------------------------------------------
+    public void markTile(int row, int col, int tile) {
+        this.changedCount = 0;
+
+        if (this.status != GameStatus.PLAY) {
+            return;
+        }
+
+        Chunk chunk = chunkAt(row, col);
+        int index = cellIndex(row, col);
+        int currentTileValue = BoardCells.tile(chunk.cells[index]);
+
+        if (tile == Constants.OPENED) {
+            if (currentTileValue != Constants.OPENED && currentTileValue != Constants.FLAG) {
+                setTile(chunk, index, row, col, Constants.OPENED);
+
+                int mine = BoardCells.mine(chunk.cells[index]);
+
+                if (mine == Constants.MINE) {
+                    setStatus(GameStatus.LOSE);
+                } else if (mine == Constants.OPENED) {
+                    openBlankArea(row, col);
+                }
+            }
+        } else if (currentTileValue != Constants.OPENED
+                && tile >= Constants.CLOSED && tile <= Constants.FLAG) {
+            setTile(chunk, index, row, col, tile);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Batch tile mutator, see GameData.
+    //-----------------------------------------------------------------
+    public MoveBatchResult markTiles(int[] moves) {
+        int changesBefore = this.tileChanges;
+        int moveCount = moves.length / 3;
+        int applied = 0;
+        int endingMove = -1;
+
+        while (applied < moveCount && this.status == GameStatus.PLAY) {
+            int move = applied * 3;
+            markTile(moves[move], moves[move + 1], moves[move + 2]);
+            applied++;
+
+            if (this.status != GameStatus.PLAY) {
+                endingMove = applied - 1;
+            }
+        }
+
+        return new MoveBatchResult(applied, this.tileChanges - changesBefore, this.status, endingMove);
+    }
+
+    //-----------------------------------------------------------------
+    //  An endless board has no row * cols + col indexes, so this is
+    //  always empty.  Use getChangedPositions instead.
+    //-----------------------------------------------------------------
+    public int[] getChangedCells() {
+        return new int[0];
+    }
+
+    //-----------------------------------------------------------------
+    //  Positions whose tile value changed during the last markTile,
+    //  see position(), row() and col().
+    //-----------------------------------------------------------------
+    public long[] getChangedPositions() {
+        return Arrays.copyOf(this.changedPositions, this.changedCount);
+    }
+
+    //-----------------------------------------------------------------
+    //  Packs row and col into one position value.
+    //-----------------------------------------------------------------
+    public static long position(int row, int col) {
+        return ((long) row << 32) | (col & 0xFFFFFFFFL);
+    }
+
+    //-----------------------------------------------------------------
+    //  Row of a packed position.
+    //-----------------------------------------------------------------
+    public static int row(long position) {
+        return (int) (position >> 32);
+    }
+
+    //-----------------------------------------------------------------
+    //  Column of a packed position.
+    //-----------------------------------------------------------------
+    public static int col(long position) {
+        return (int) position;
+    }
+
+    //-----------------------------------------------------------------
+    //  Number of chunks currently held in memory.
+    //-----------------------------------------------------------------
+    public int getLoadedChunks() {
+        return this.chunks.size();
+    }
+
+    //-----------------------------------------------------------------
+    //  Number of evicted chunks whose tiles are in the spill file.
+    //-----------------------------------------------------------------
+    public int getSpilledChunks() {
+        return this.spillCount;
+    }
+
+    //-----------------------------------------------------------------
+    //  Closes the spill file, deleting it if it is temporary.  The
+    //  board can not be used afterwards.
+    //-----------------------------------------------------------------
+    public void close() throws IOException {
+        if (this.spill != null) {
+            this.spill.close();
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Opens the blank area around an opened blank tile, using an
+    //  explicit work queue of positions.  The area may cross any
+    //  number of chunks.
+    //-----------------------------------------------------------------
+    private void openBlankArea(int startRow, int startCol) {
+        long[] queue = this.floodQueue;
+        int head = 0;
+        int tail = 0;
+
+        queue[tail++] = position(startRow, startCol);
+
+        while (head < tail) {
+            long position = queue[head++];
+            int row = row(position);
+            int col = col(position);
+
+            for (int y = -1; y <= 1; y++) {
+                for (int x = -1; x <= 1; x++) {
+                    if (y == 0 && x == 0) {
+                        continue;
+                    }
+
+                    int thisRow = row + y;
+                    int thisCol = col + x;
+                    Chunk chunk = chunkAt(thisRow, thisCol);
+                    int index = cellIndex(thisRow, thisCol);
+                    int tile = BoardCells.tile(chunk.cells[index]);
+
+                    // opened tiles stay open, flagged tiles can not be opened.
+                    if (tile == Constants.OPENED || tile == Constants.FLAG) {
+                        continue;
+                    }
+
+                    setTile(chunk, index, thisRow, thisCol, Constants.OPENED);
+
+                    // only blank tiles keep the area growing.
+                    if (BoardCells.mine(chunk.cells[index]) == Constants.OPENED) {
+                        if (tail == queue.length) {
+                            // reclaim the processed part before growing.
+                            System.arraycopy(queue, head, queue, 0, tail - head);
+                            tail -= head;
+                            head = 0;
+
+                            if (tail > queue.length / 2) {
+                                queue = Arrays.copyOf(queue, queue.length * 2);
+                                this.floodQueue = queue;
+                            }
+                        }
+                        queue[tail++] = position(thisRow, thisCol);
+                    }
+                }
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Sets the tile value of a cell and records the change.
+    //-----------------------------------------------------------------
+    private void setTile(Chunk chunk, int index, int row, int col, int tile) {
+        byte cell = chunk.cells[index];
+
+        if (BoardCells.tile(cell) != tile) {
+            this.tileChanges++;
+            chunk.played = true;
+
+            if (this.changedCount == this.changedPositions.length) {
+                this.changedPositions = Arrays.copyOf(this.changedPositions, this.changedCount * 2);
+            }
+            this.changedPositions[this.changedCount++] = position(row, col);
+        }
+
+        chunk.cells[index] = BoardCells.withTile(cell, tile);
+    }
+
+    //-----------------------------------------------------------------
+    //  Changes the game status and notifies the status listeners.
+    //-----------------------------------------------------------------
+    private void setStatus(GameStatus newStatus) {
+        GameStatus oldStatus = this.status;
+
+        if (oldStatus != newStatus) {
+            this.status = newStatus;
+
+            for (int i = 0; i < this.statusListeners.size(); i++) {
+                this.statusListeners.get(i).statusChanged(this, oldStatus, newStatus);
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Index of row,col within its chunk.
+    //-----------------------------------------------------------------
+    private static int cellIndex(int row, int col) {
+        return ((row & CHUNK_MASK) << CHUNK_SHIFT) | (col & CHUNK_MASK);
+    }
+
+    //-----------------------------------------------------------------
+    //  Map key of the chunk at chunk coordinates chunkRow,chunkCol.
+    //-----------------------------------------------------------------
+    private static long chunkKey(int chunkRow, int chunkCol) {
+        return position(chunkRow, chunkCol);
+    }
+
+    //-----------------------------------------------------------------
+    //  Chunk holding row,col, generated or reloaded if needed.
+    //-----------------------------------------------------------------
+    private Chunk chunkAt(int row, int col) {
+        int chunkRow = row >> CHUNK_SHIFT;
+        int chunkCol = col >> CHUNK_SHIFT;
+        Chunk chunk = this.lastChunk;
+
+        if (chunk != null && chunk.chunkRow == chunkRow && chunk.chunkCol == chunkCol) {
+            return chunk;
+        }
+
+        Long key = chunkKey(chunkRow, chunkCol);
+        chunk = this.chunks.get(key);
+
+        if (chunk == null) {
+            chunk = generateChunk(chunkRow, chunkCol);
+
+            int slot = spillSlot(key);
+            if (slot != NO_SLOT) {
+                restoreTiles(chunk, slot);
+            }
+
+            this.chunks.put(key, chunk);
+        }
+
+        this.lastChunk = chunk;
+        return chunk;
+    }
+
+    //-----------------------------------------------------------------
+    //  Drops a chunk from memory, spilling its tile values if it was
+    //  played on.  Untouched chunks are simply regenerated later.  A
+    //  chunk spilled before goes back to its old slot.
+    //-----------------------------------------------------------------
+    private void evict(long key, Chunk chunk) {
+        if (chunk.played) {
+            ByteBuffer saved = this.savedTiles;
+            saved.clear();
+
+            for (int index = 0; index < CHUNK_CELLS; index += 4) {
+                int packed = 0;
+
+                for (int i = 0; i < 4; i++) {
+                    packed |= BoardCells.tile(chunk.cells[index + i]) << (i << 1);
+                }
+                saved.put((byte) packed);
+            }
+
+            int slot = spillSlot(key);
+
+            if (slot == NO_SLOT) {
+                slot = this.spillCount++;
+                addSpillSlot(key, slot);
+            }
+
+            saved.flip();
+            transfer(saved, slot, true);
+        }
+
+        if (this.lastChunk == chunk) {
+            this.lastChunk = null;
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Puts spilled tile values back into a regenerated chunk.
+    //-----------------------------------------------------------------
+    private void restoreTiles(Chunk chunk, int slot) {
+        ByteBuffer saved = this.savedTiles;
+        saved.clear();
+        transfer(saved, slot, false);
+
+        for (int index = 0; index < CHUNK_CELLS; index++) {
+            int tile = (saved.get(index >>> 2) >>> ((index & 3) << 1)) & 3;
+            chunk.cells[index] = BoardCells.withTile(chunk.cells[index], tile);
+        }
+
+        chunk.played = true;
+    }
+
+    //-----------------------------------------------------------------
+    //  Writes the buffer to, or fills it from, a slot of the spill
+    //  file, opening the file first if needed.
+    //-----------------------------------------------------------------
+    private void transfer(ByteBuffer buffer, int slot, boolean write) {
+        try {
+            if (this.spill == null) {
+                this.spill = openSpill();
+            }
+
+            long position = (long) slot * SAVED_SIZE;
+
+            while (buffer.hasRemaining()) {
+                int count = write
+                        ? this.spill.write(buffer, position)
+                        : this.spill.read(buffer, position);
+
+                if (count < 0) {
+                    throw new IOException("spill file ends early");
+                }
+                position += count;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Opens the spill file.  A named file is created new, so a file
+    //  that appeared since the constructor is never overwritten.
+    //-----------------------------------------------------------------
+    private FileChannel openSpill() throws IOException {
+        if (this.spillPath != null) {
+            return FileChannel.open(this.spillPath, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+        }
+
+        Path file = Files.createTempFile("minesweeper-chunks", ".tiles");
+        return FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.DELETE_ON_CLOSE);
+    }
+
+    //-----------------------------------------------------------------
+    //  Spill file slot of a chunk key, or NO_SLOT.
+    //-----------------------------------------------------------------
+    private int spillSlot(long key) {
+        int mask = this.spillKeys.length - 1;
+
+        for (int i = spillHash(key) & mask; this.spillSlots[i] != NO_SLOT; i = (i + 1) & mask) {
+            if (this.spillKeys[i] == key) {
+                return this.spillSlots[i];
+            }
+        }
+
+        return NO_SLOT;
+    }
+
+    //-----------------------------------------------------------------
+    //  Adds a chunk key to the spill index, growing it to stay at
+    //  most half full.
+    //-----------------------------------------------------------------
+    private void addSpillSlot(long key, int slot) {
+        if (this.spillCount * 2 > this.spillKeys.length) {
+            long[] oldKeys = this.spillKeys;
+            int[] oldSlots = this.spillSlots;
+
+            this.spillKeys = new long[oldKeys.length * 2];
+            this.spillSlots = newSlots(oldKeys.length * 2);
+
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldSlots[i] != NO_SLOT) {
+                    putSpillSlot(oldKeys[i], oldSlots[i]);
+                }
+            }
+        }
+
+        putSpillSlot(key, slot);
+    }
+
+    //-----------------------------------------------------------------
+    //  Stores a key in the first free place of its probe sequence.
+    //-----------------------------------------------------------------
+    private void putSpillSlot(long key, int slot) {
+        int mask = this.spillKeys.length - 1;
+        int i = spillHash(key) & mask;
+
+        while (this.spillSlots[i] != NO_SLOT) {
+            i = (i + 1) & mask;
+        }
+
+        this.spillKeys[i] = key;
+        this.spillSlots[i] = slot;
+    }
+
+    //-----------------------------------------------------------------
+    //  Hash of a chunk key for the spill index.
+    //-----------------------------------------------------------------
+    private static int spillHash(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    //-----------------------------------------------------------------
+    //  Spill index slots, all empty.
+    //-----------------------------------------------------------------
+    private static int[] newSlots(int length) {
+        int[] slots = new int[length];
+        Arrays.fill(slots, NO_SLOT);
+        return slots;
+    }
+
+    //-----------------------------------------------------------------
+    //  Generates a chunk: its own mines plus clues that count the
+    //  mines of the surrounding chunks along its edges.
+    //-----------------------------------------------------------------
+    private Chunk generateChunk(int chunkRow, int chunkCol) {
+        // mines of this chunk and a one cell halo around it.
+        MineBitboard bitboard = new MineBitboard(CHUNK_SIZE + 2, CHUNK_SIZE + 2);
+
+        for (int dy = -1; dy <= 1; dy++) {
+            for (int dx = -1; dx <= 1; dx++) {
+                long[] mines = chunkMines(chunkRow + dy, chunkCol + dx);
+
+                for (int r = 0; r < CHUNK_SIZE; r++) {
+                    int haloRow = r + 1 + dy * CHUNK_SIZE;
+
+                    if (haloRow < 0 || haloRow > CHUNK_SIZE + 1 || mines[r] == 0) {
+                        continue;
+                    }
+
+                    for (int c = 0; c < CHUNK_SIZE; c++) {
+                        int haloCol = c + 1 + dx * CHUNK_SIZE;
+
+                        if (haloCol >= 0 && haloCol <= CHUNK_SIZE + 1 && (mines[r] & (1L << c)) != 0) {
+                            bitboard.setMine(haloRow, haloCol);
+                        }
+                    }
+                }
+            }
+        }
+
+        int stride = CHUNK_SIZE + 2;
+        byte[] halo = new byte[stride * stride];
+        bitboard.writeCells(halo, 0, stride, 1, CHUNK_SIZE + 1, Constants.CLOSED);
+
+        Chunk chunk = new Chunk(chunkRow, chunkCol);
+
+        for (int r = 0; r < CHUNK_SIZE; r++) {
+            System.arraycopy(halo, (r + 1) * stride + 1, chunk.cells, r << CHUNK_SHIFT, CHUNK_SIZE);
+        }
+
+        return chunk;
+    }
+
+    //-----------------------------------------------------------------
+    //  Mine layout of a chunk, one word per row with bit c set for
+    //  a mine in column c.  Depends only on the world seed and the
+    //  chunk coordinates.
+    //-----------------------------------------------------------------
+    private long[] chunkMines(int chunkRow, int chunkCol) {
+        SplittableRandom random = new SplittableRandom(
+                this.worldSeed ^ (chunkKey(chunkRow, chunkCol) * 0x9E3779B97F4A7C15L));
+        long[] mines = new long[CHUNK_SIZE];
+
+        // Floyd's sampling, see minesweeper.placeMines.
+        for (int j = CHUNK_CELLS - this.chunkMines; j < CHUNK_CELLS; j++) {
+            int pick = random.nextInt(j + 1);
+
+            if ((mines[pick >>> CHUNK_SHIFT] & (1L << pick)) != 0) {
+                pick = j;
+            }
+
+            mines[pick >>> CHUNK_SHIFT] |= 1L << pick;
+        }
+
+        return mines;
+    }
+
+    //-----------------------------------------------------------------
+    //  One generated chunk of packed cells, see BoardCells.
+    //-----------------------------------------------------------------
+    private static class Chunk {
+        // chunk coordinates.
+        final int chunkRow, chunkCol;
+        // packed cells, indexed by cellIndex().
+        final byte[] cells = new byte[CHUNK_CELLS];
+        // true once any tile in the chunk changed.
+        boolean played;
+
+        Chunk(int chunkRow, int chunkCol) {
+            this.chunkRow = chunkRow;
+            this.chunkCol = chunkCol;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+//********************************************************************
+//  ConcurrentGame.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  Thread-safe view of a GameData, for games read by many threads
+//  while one player moves.  Moves take the write lock of a
+//  StampedLock, so they are applied one at a time.  Reads run
+//  optimistically without locking and are retried under the read
+//  lock only when a move overlapped them, so spectators never block
+//  each other and rarely block the player.
+//
+//  read runs a whole-board reader such as minesweeper.toStringBoard
+//  the same way, so the text it returns is one consistent board.
+//
+//  The lock is not reentrant.  Status listeners run while the write
+//  lock is held and must not call back into this object.
+//
+//  Reads may run on many threads at once, so the game's accessors
+//  must not change anything.  Only games whose
+//  GameData.supportsConcurrentReads returns true can be wrapped;
+//  ChunkedMinesweeper, whose lookups reorder its chunk cache and may
+//  evict or spill chunks, keeps the default false and is rejected.
+//********************************************************************
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+
+public class ConcurrentGame implements GameData {
+    // the wrapped game.  only used through this object.
+    private final GameData game;
+    // guards the game, possibly shared with other games.
+    private final StampedLock lock;
+
+    //-----------------------------------------------------------------
+    //  Constructor.  The game gets a lock of its own.
+    //-----------------------------------------------------------------
+    public ConcurrentGame(GameData game) {
+        this(game, new StampedLock());
+    }
+
+    //-----------------------------------------------------------------
+    //  Constructor.  Accepts the lock guarding the game, normally
+    //  LockStripes.lockFor a session id.  Throws
+    //  IllegalArgumentException for a game that does not support
+    //  concurrent reads.
+    //-----------------------------------------------------------------
+    public ConcurrentGame(GameData game, StampedLock lock) {
+        if (!game.supportsConcurrentReads()) {
+            throw new IllegalArgumentException(game.getClass().getName() + " reads are not thread-safe");
+        }
+
+        this.game = game;
+        this.lock = lock;
+    }
+
+    //-----------------------------------------------------------------
+    //  Runs a reader against one consistent state of the game and
+    //  returns its result.  The reader may run more than once and may
+    //  see a move half applied on an optimistic pass, in which case
+    //  its result or exception is discarded; it must not change
+    //  anything.
+    //-----------------------------------------------------------------
+    public <T> T read(Function<? super GameData, ? extends T> reader) {
+        long stamp = this.lock.tryOptimisticRead();
+
+        if (stamp != 0) {
+            try {
+                T result = reader.apply(this.game);
+
+                if (this.lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                // a move overlapped the read, unless the reader fails
+                // again under the read lock.
+            }
+        }
+
+        stamp = this.lock.readLock();
+
+        try {
+            return reader.apply(this.game);
+        } finally {
+            this.lock.unlockRead(stamp);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Game status accessor.
+    //-----------------------------------------------------------------
+    public GameStatus getGameStatus() {
+        long stamp = this.lock.tryOptimisticRead();
+        GameStatus status = this.game.getGameStatus();
+
+        if (!this.lock.validate(stamp)) {
+            stamp = this.lock.readLock();
+
+            try {
+                status = this.game.getGameStatus();
+            } finally {
+                this.lock.unlockRead(stamp);
+            }
+        }
+
+        return status;
+    }
+
+    //-----------------------------------------------------------------
+    //  Registers a listener called on every status transition.
+    //-----------------------------------------------------------------
+    public void addStatusListener(GameStatusListener listener) {
+        long stamp = this.lock.writeLock();
+
+        try {
+            this.game.addStatusListener(listener);
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Removes a previously registered status listener.
+    //-----------------------------------------------------------------
+    public void removeStatusListener(GameStatusListener listener) {
+        long stamp = this.lock.writeLock();
+
+        try {
+            this.game.removeStatusListener(listener);
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Board height accessor.  The size never changes, no lock.
+    //-----------------------------------------------------------------
+    public int getRows() {
+        return this.game.getRows();
+    }
+
+    //-----------------------------------------------------------------
+    //  Board width accessor.  The size never changes, no lock.
+    //-----------------------------------------------------------------
+    public int getCols() {
+        return this.game.getCols();
+    }
+
+    //-----------------------------------------------------------------
+    //  Mine accessor.
+    //-----------------------------------------------------------------
+    public int getMines(int row, int col) {
+        long stamp = this.lock.tryOptimisticRead();
+        int mines = this.game.getMines(row, col);
+
+        if (!this.lock.validate(stamp)) {
+            stamp = this.lock.readLock();
+
+            try {
+                mines = this.game.getMines(row, col);
+            } finally {
+                this.lock.unlockRead(stamp);
+            }
+        }
+
+        return mines;
+    }
+
+    //-----------------------------------------------------------------
+    //  Tile accessor.
+    //-----------------------------------------------------------------
+    public int getTiles(int row, int col) {
+        long stamp = this.lock.tryOptimisticRead();
+        int tile = this.game.getTiles(row, col);
+
+        if (!this.lock.validate(stamp)) {
+            stamp = this.lock.readLock();
+
+            try {
+                tile = this.game.getTiles(row, col);
+            } finally {
+                this.lock.unlockRead(stamp);
+            }
+        }
+
+        return tile;
+    }
+
+    //-----------------------------------------------------------------
+    //  Tile mutator.  Waits for other moves and locked reads.
+    //-----------------------------------------------------------------
+    public void markTile(int row, int col, int tile) {
+        long stamp = this.lock.writeLock();
+
+        try {
+            this.game.markTile(row, col, tile);
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Batch tile mutator.  The whole batch is applied under one
+    //  write lock, so readers see none or all of it.
+    //-----------------------------------------------------------------
+    public MoveBatchResult markTiles(int[] moves) {
+        long stamp = this.lock.writeLock();
+
+        try {
+            return this.game.markTiles(moves);
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Cells changed by the last move of any thread.
+    //-----------------------------------------------------------------
+    public int[] getChangedCells() {
+        return read(GameData::getChangedCells);
+    }
+
+    //-----------------------------------------------------------------
+    //  True, reads of the wrapped game are guarded by the lock.
+    //-----------------------------------------------------------------
+    public boolean supportsConcurrentReads() {
+        return true;
+    }
+}
@@ -0,0 +1,95 @@
+//********************************************************************
+//  GameData.java
+//
+//  Author: David J. Gardner
+//  Date: 4/27/18
+//
+//  Interface to provide generalized accessors to game data.
+//
+//  Implementations are not thread-safe.  A game belongs to the
+//  thread that created it, or to whichever thread it is handed to
+//  through a safe publication such as a queue or an executor; a
+//  game shared between threads needs all access guarded by the
+//  caller.  Status listeners run on the thread making the move.
+//********************************************************************
+
+public interface GameData {
+    // getRows or getCols of a board without a last row or column.
+    int UNBOUNDED = Integer.MAX_VALUE;
+
+    //-----------------------------------------------------------------
+    //  Game status accessor.  Kept for compatibility, returns the
+    //  text of getGameStatus().
+    //-----------------------------------------------------------------
+    default String getStatus() {
+        return getGameStatus().toString();
+    }
+
+    //-----------------------------------------------------------------
+    //  Typed game status accessor.
+    //-----------------------------------------------------------------
+    GameStatus getGameStatus();
+
+    //-----------------------------------------------------------------
+    //  Registers a listener called on every status transition.
+    //-----------------------------------------------------------------
+    void addStatusListener(GameStatusListener listener);
+
+    //-----------------------------------------------------------------
+    //  Removes a previously registered status listener.
+    //-----------------------------------------------------------------
+    void removeStatusListener(GameStatusListener listener);
+
+    //-----------------------------------------------------------------
+    //  Board height accessor.  UNBOUNDED for an endless board, where
+    //  every row index, negative ones included, is valid; such a
+    //  board can only be shown or solved a window at a time.
+    //-----------------------------------------------------------------
+    int getRows();
+
+    //-----------------------------------------------------------------
+    //  Board width accessor.  UNBOUNDED for an endless board, as
+    //  getRows.
+    //-----------------------------------------------------------------
+    int getCols();
+
+    //-----------------------------------------------------------------
+    //  Mine accessor.
+    //-----------------------------------------------------------------
+    int getMines(int row, int col);
+
+    //-----------------------------------------------------------------
+    //  Tile accessor.
+    //-----------------------------------------------------------------
+    int getTiles(int row, int col);
+
+    //-----------------------------------------------------------------
+    //  Tile mutator.
+    //-----------------------------------------------------------------
+    void markTile(int row, int col, int tile);
+
+    //-----------------------------------------------------------------
+    //  Batch tile mutator.  Moves are (row, col, tile) triples, so
+    //  move i is moves[3 * i] .. moves[3 * i + 2].  Moves are applied
+    //  in order until the game ends.
+    //-----------------------------------------------------------------
+    MoveBatchResult markTiles(int[] moves);
+
+    //-----------------------------------------------------------------
+    //  Cells whose tile value changed during the last markTile call,
+    //  as row * cols + col indexes.  After markTiles this covers the
+    //  last move applied only.  Boards without a last row or column,
+    //  or with more cells than an int can index, return an empty array.
+    //-----------------------------------------------------------------
+    int[] getChangedCells();
+
+    //-----------------------------------------------------------------
+    //  Returns true if no accessor changes the game, so while no move
+    //  is being made any number of threads may read it at once.  This
+    //  is what ConcurrentGame needs of a game it wraps.  Games whose
+    //  reads update caches or buffer positions keep the default.
+    //-----------------------------------------------------------------
+    default boolean supportsConcurrentReads() {
+        return false;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+//********************************************************************
+//  GameLevel.java
+//
+//  Author: David J. Gardner
+//  Date: 4/27/18
+//
+//  Game level enumeration.  Each level has a board size, a number
+//  of mines and a game timer.
+//********************************************************************
+
+import java.util.concurrent.ThreadLocalRandom;
+
+public enum GameLevel {
+    BEGINNER(9, 9, 9, 5),
+    INTERMEDIATE(16, 16, 26, 10),
+    EXPERT(24, 24, 58, 15);
+
+    // board dimensions.
+    private final int rows, cols;
+    // number of mines.
+    private final int mines;
+    // game timer, in minutes.
+    private final int timeout;
+
+    //-----------------------------------------------------------------
+    //  Constructor.
+    //-----------------------------------------------------------------
+    GameLevel(int rows, int cols, int mines, int timeout) {
+        this.rows = rows;
+        this.cols = cols;
+        this.mines = mines;
+        this.timeout = timeout;
+    }
+
+    //-----------------------------------------------------------------
+    //  Board height accessor.
+    //-----------------------------------------------------------------
+    public int getRows() {
+        return this.rows;
+    }
+
+    //-----------------------------------------------------------------
+    //  Board width accessor.
+    //-----------------------------------------------------------------
+    public int getCols() {
+        return this.cols;
+    }
+
+    //-----------------------------------------------------------------
+    //  Number of mines on a board of this level.
+    //-----------------------------------------------------------------
+    public int getMines() {
+        return this.mines;
+    }
+
+    //-----------------------------------------------------------------
+    //  Game timer accessor, in minutes.
+    //-----------------------------------------------------------------
+    public int getTimeout() {
+        return this.timeout;
+    }
+
+    //-----------------------------------------------------------------
+    //  Creates a new game of this level.
+    //-----------------------------------------------------------------
+    public minesweeper newGame() {
+        return newGame(ThreadLocalRandom.current().nextLong());
+    }
+
+    //-----------------------------------------------------------------
+    //  Creates the game of this level placed from the given seed.
+    //-----------------------------------------------------------------
+    public minesweeper newGame(long seed) {
+        return new minesweeper(this.rows, this.cols, this.mines, seed);
+    }
+}
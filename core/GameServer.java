@@ -0,0 +1,492 @@
+//********************************************************************
+//  GameServer.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  Hosts many GameSessions behind a line based protocol on a local
+//  TCP port.  The server targets Java 17, so connections are served
+//  by a bounded pool of platform threads, one thread per open
+//  connection; a connection beyond the pool is told "ERR server
+//  busy" and closed.  Sessions are not tied to connections, so tens
+//  of thousands of sessions are played over a few hundred
+//  connections, each playing any number of sessions.  Sessions share a fixed set of lock stripes, so reads
+//  and moves on different games rarely meet.  Sessions idle for
+//  longer than the hibernation delay are kept as snapshot bytes;
+//  finished or timed out sessions are dropped once idle for as long.
+//
+//  Requests and replies are single lines of ASCII words.  Errors are
+//  "ERR <message>".
+//      NEW <level> [seed]              OK <id> <rows> <cols> <mines> <timeout>
+//      NEW <rows> <cols> <mines> [seed]
+//      OPEN|FLAG|QUESTION|CLOSE <id> <row> <col>
+//                                      OK <status> <tiles changed>
+//      STATUS <id>                     OK <status> <seconds left>
+//      BOARD <id>                      OK <rows> <cols> <status>
+//                                      followed by <rows> board lines
+//      END <id>                        OK
+//      BYE                             OK, then the server hangs up
+//
+//  usage: java GameServer [port] [hibernateSeconds]
+//********************************************************************
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class GameServer implements Closeable {
+    // largest board a client may ask for.
+    private static final long MAX_CELLS = 1 << 20;
+    // default number of sessions hosted at once.
+    private static final int DEFAULT_MAX_SESSIONS = 100_000;
+    // number of connections served at once, one thread each.
+    private static final int MAX_CONNECTIONS = 512;
+    // time an unused connection thread is kept, in seconds.
+    private static final long CONNECTION_THREAD_KEEP_ALIVE = 60;
+    // time between sweeps for idle and finished sessions.
+    private static final long SWEEP_MILLIS = 1000;
+    // number of locks shared by the sessions.
+    private static final int LOCK_STRIPES = 256;
+
+    // port requested, 0 for any free port.
+    private final int requestedPort;
+    // idle time before a session is hibernated, in nanoseconds.
+    private final long hibernateAfter;
+    // number of sessions hosted at once.
+    private final int maxSessions;
+
+    // sessions by identifier.
+    private final Map<Long, GameSession> sessions = new ConcurrentHashMap<>();
+    // identifier of the next session.
+    private final AtomicLong nextId = new AtomicLong(1);
+    // session locks, keyed by session id.
+    private final LockStripes locks = new LockStripes(LOCK_STRIPES);
+    // open client connections, closed with the server.
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+
+    // listening socket, null until started.
+    private ServerSocket serverSocket;
+    // serves each connection on a thread of its own.
+    private ExecutorService connectionExecutor;
+    // hibernates and drops idle sessions.
+    private ScheduledExecutorService sweeper;
+
+    //-----------------------------------------------------------------
+    //  Constructor.  Accepts the port, 0 for any free port, and the
+    //  idle time before a session is hibernated.
+    //-----------------------------------------------------------------
+    public GameServer(int port, long hibernateAfterMillis) {
+        this(port, hibernateAfterMillis, DEFAULT_MAX_SESSIONS);
+    }
+
+    //-----------------------------------------------------------------
+    //  Constructor.  Also accepts the number of sessions hosted at
+    //  once; NEW fails while that many are open.
+    //-----------------------------------------------------------------
+    public GameServer(int port, long hibernateAfterMillis, int maxSessions) {
+        this.requestedPort = port;
+        this.hibernateAfter = TimeUnit.MILLISECONDS.toNanos(hibernateAfterMillis);
+        this.maxSessions = maxSessions;
+    }
+
+    //-----------------------------------------------------------------
+    //  Starts listening on the loopback address.
+    //-----------------------------------------------------------------
+    public synchronized void start() throws IOException {
+        if (this.serverSocket != null) {
+            throw new IllegalStateException("server already started");
+        }
+
+        this.serverSocket = new ServerSocket(this.requestedPort, 1024, InetAddress.getLoopbackAddress());
+        this.connectionExecutor = newConnectionExecutor();
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(task -> daemon(task, "session-sweeper"));
+        this.sweeper.scheduleWithFixedDelay(this::sweep, SWEEP_MILLIS, SWEEP_MILLIS, TimeUnit.MILLISECONDS);
+
+        daemon(this::acceptConnections, "game-server-accept").start();
+    }
+
+    //-----------------------------------------------------------------
+    //  Port the server listens on.
+    //-----------------------------------------------------------------
+    public int getPort() {
+        return this.serverSocket.getLocalPort();
+    }
+
+    //-----------------------------------------------------------------
+    //  Number of sessions hosted.
+    //-----------------------------------------------------------------
+    public int getSessionCount() {
+        return this.sessions.size();
+    }
+
+    //-----------------------------------------------------------------
+    //  Number of sessions currently hibernated.
+    //-----------------------------------------------------------------
+    public int getHibernatedCount() {
+        int count = 0;
+
+        for (GameSession session : this.sessions.values()) {
+            if (session.isHibernated()) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    //-----------------------------------------------------------------
+    //  Stops listening and closes every connection.  Sessions are
+    //  discarded.
+    //-----------------------------------------------------------------
+    public synchronized void close() throws IOException {
+        if (this.serverSocket == null) {
+            return;
+        }
+
+        this.serverSocket.close();
+        this.sweeper.shutdownNow();
+
+        for (Socket socket : this.connections) {
+            socket.close();
+        }
+
+        this.connectionExecutor.shutdownNow();
+        this.sessions.clear();
+    }
+
+    //-----------------------------------------------------------------
+    //  Ends games out of time, hibernates idle sessions and drops
+    //  finished ones.
+    //-----------------------------------------------------------------
+    void sweep() {
+        long now = System.nanoTime();
+        long idleBefore = now - this.hibernateAfter;
+
+        for (GameSession session : this.sessions.values()) {
+            session.expire(now);
+
+            if (session.isFinished(idleBefore)) {
+                this.sessions.remove(session.getId());
+            } else {
+                session.hibernate(idleBefore);
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Accepts connections until the server socket is closed.
+    //-----------------------------------------------------------------
+    private void acceptConnections() {
+        while (!this.serverSocket.isClosed()) {
+            try {
+                Socket socket = this.serverSocket.accept();
+
+                this.connections.add(socket);
+
+                try {
+                    this.connectionExecutor.execute(() -> serve(socket));
+                } catch (RejectedExecutionException e) {
+                    refuse(socket);
+                }
+            } catch (IOException e) {
+                // closed by close(), or a connection that failed
+                // before it was accepted.
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Tells a connection the server is busy and hangs up.  Called on
+    //  the accepting thread, so the reply is not waited for.
+    //-----------------------------------------------------------------
+    private void refuse(Socket socket) {
+        try (socket) {
+            socket.setSoLinger(true, 0);
+            socket.getOutputStream().write(
+                    ("ERR server busy" + Constants.LINEFEED).getBytes(StandardCharsets.US_ASCII));
+        } catch (IOException e) {
+            // the client hung up first.
+        } finally {
+            this.connections.remove(socket);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Answers the requests of one connection until it closes.
+    //  Replies are flushed once no more requests are waiting, so
+    //  pipelined requests share a write.
+    //-----------------------------------------------------------------
+    private void serve(Socket socket) {
+        try (socket;
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+             Writer out = new BufferedWriter(
+                     new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII))) {
+            socket.setTcpNoDelay(true);
+
+            String line;
+            boolean open = true;
+
+            while (open && (line = in.readLine()) != null) {
+                open = handle(line, out);
+
+                if (!open || !in.ready()) {
+                    out.flush();
+                }
+            }
+        } catch (SocketException e) {
+            // the client or close() hung up.
+        } catch (IOException e) {
+            System.err.println("connection failed: " + e);
+        } finally {
+            this.connections.remove(socket);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Answers one request.  Returns false if the connection is to
+    //  be closed.
+    //-----------------------------------------------------------------
+    boolean handle(String line, Writer out) throws IOException {
+        String[] words = line.trim().split("\\s+");
+
+        try {
+            switch (words[0].toUpperCase(Locale.ROOT)) {
+                case "NEW":
+                    newSession(words, out);
+                    break;
+                case "OPEN":
+                    move(words, Constants.OPENED, out);
+                    break;
+                case "FLAG":
+                    move(words, Constants.FLAG, out);
+                    break;
+                case "QUESTION":
+                    move(words, Constants.QUESTION, out);
+                    break;
+                case "CLOSE":
+                    move(words, Constants.CLOSED, out);
+                    break;
+                case "STATUS":
+                    status(words, out);
+                    break;
+                case "BOARD":
+                    board(words, out);
+                    break;
+                case "END":
+                    endSession(words, out);
+                    break;
+                case "BYE":
+                    reply(out, "OK");
+                    return false;
+                default:
+                    reply(out, "ERR unknown command " + words[0]);
+            }
+        } catch (NumberFormatException e) {
+            reply(out, "ERR not a number");
+        } catch (IllegalArgumentException e) {
+            reply(out, "ERR " + e.getMessage());
+        }
+
+        return true;
+    }
+
+    //-----------------------------------------------------------------
+    //  NEW <level> [seed] or NEW <rows> <cols> <mines> [seed].
+    //-----------------------------------------------------------------
+    private void newSession(String[] words, Writer out) throws IOException {
+        if (this.sessions.size() >= this.maxSessions) {
+            reply(out, "ERR server full");
+            return;
+        }
+
+        GameLevel level = levelFor(words.length > 1 ? words[1] : "");
+        int boardWords = level != null ? 1 : 3;
+
+        if (words.length < 1 + boardWords || words.length > 2 + boardWords) {
+            throw new IllegalArgumentException("usage NEW <level> [seed] or NEW <rows> <cols> <mines> [seed]");
+        }
+
+        long seed = words.length > 1 + boardWords
+                ? Long.parseLong(words[1 + boardWords])
+                : ThreadLocalRandom.current().nextLong();
+        minesweeper game;
+        int timeout;
+
+        if (level != null) {
+            game = level.newGame(seed);
+            timeout = level.getTimeout();
+        } else {
+            int rows = Integer.parseInt(words[1]);
+            int cols = Integer.parseInt(words[2]);
+            int mines = Integer.parseInt(words[3]);
+
+            if (rows < 1 || cols < 1 || (long) rows * cols > MAX_CELLS) {
+                throw new IllegalArgumentException("board must have 1 to " + MAX_CELLS + " tiles");
+            }
+
+            game = new minesweeper(rows, cols, mines, seed);
+            timeout = GameSession.timeoutFor(rows, cols);
+        }
+
+        long id = this.nextId.getAndIncrement();
+        GameSession session = new GameSession(id, game, timeout, this.locks.lockFor(id));
+        this.sessions.put(session.getId(), session);
+
+        reply(out, "OK " + session.getId() + " " + session.getRows() + " " + session.getCols()
+                + " " + session.getMineCount() + " " + TimeUnit.MINUTES.toSeconds(timeout));
+    }
+
+    //-----------------------------------------------------------------
+    //  OPEN, FLAG, QUESTION or CLOSE <id> <row> <col>.
+    //-----------------------------------------------------------------
+    private void move(String[] words, int tile, Writer out) throws IOException {
+        if (words.length != 4) {
+            throw new IllegalArgumentException("usage " + words[0] + " <id> <row> <col>");
+        }
+
+        MoveBatchResult result = sessionFor(words[1])
+                .markTile(Integer.parseInt(words[2]), Integer.parseInt(words[3]), tile);
+
+        reply(out, "OK " + result.getStatus() + " " + result.getCellsChanged());
+    }
+
+    //-----------------------------------------------------------------
+    //  STATUS <id>.
+    //-----------------------------------------------------------------
+    private void status(String[] words, Writer out) throws IOException {
+        GameSession session = sessionFor(singleId(words));
+
+        reply(out, "OK " + session.getGameStatus() + " " + session.secondsLeft(System.nanoTime()));
+    }
+
+    //-----------------------------------------------------------------
+    //  BOARD <id>.
+    //-----------------------------------------------------------------
+    private void board(String[] words, Writer out) throws IOException {
+        GameSession session = sessionFor(singleId(words));
+        StringBuilder board = new StringBuilder((session.getCols() + 1) * session.getRows());
+        GameStatus status = session.writeBoard(board);
+
+        reply(out, "OK " + session.getRows() + " " + session.getCols() + " " + status);
+        out.append(board);
+    }
+
+    //-----------------------------------------------------------------
+    //  END <id>.
+    //-----------------------------------------------------------------
+    private void endSession(String[] words, Writer out) throws IOException {
+        if (this.sessions.remove(Long.parseLong(singleId(words))) == null) {
+            throw new IllegalArgumentException("unknown session");
+        }
+
+        reply(out, "OK");
+    }
+
+    //-----------------------------------------------------------------
+    //  The only argument of a request that takes a session id.
+    //-----------------------------------------------------------------
+    private static String singleId(String[] words) {
+        if (words.length != 2) {
+            throw new IllegalArgumentException("usage " + words[0] + " <id>");
+        }
+
+        return words[1];
+    }
+
+    //-----------------------------------------------------------------
+    //  Session with the given id.
+    //-----------------------------------------------------------------
+    private GameSession sessionFor(String id) {
+        GameSession session = this.sessions.get(Long.parseLong(id));
+
+        if (session == null) {
+            throw new IllegalArgumentException("unknown session");
+        }
+
+        return session;
+    }
+
+    //-----------------------------------------------------------------
+    //  Level with the given name, or null.
+    //-----------------------------------------------------------------
+    private static GameLevel levelFor(String name) {
+        for (GameLevel level : GameLevel.values()) {
+            if (level.name().equalsIgnoreCase(name)) {
+                return level;
+            }
+        }
+
+        return null;
+    }
+
+    //-----------------------------------------------------------------
+    //  Writes one reply line.
+    //-----------------------------------------------------------------
+    private static void reply(Writer out, String text) throws IOException {
+        out.write(text);
+        out.write(Constants.LINEFEED);
+    }
+
+    //-----------------------------------------------------------------
+    //  Executor running each connection on a daemon platform thread
+    //  of its own, at most MAX_CONNECTIONS at once.  Connections are
+    //  not queued: a connection waiting behind an open one would wait
+    //  until that client hangs up, so execute refuses it instead.
+    //  Idle threads are dropped after CONNECTION_THREAD_KEEP_ALIVE.
+    //-----------------------------------------------------------------
+    private static ExecutorService newConnectionExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_CONNECTIONS, MAX_CONNECTIONS,
+                CONNECTION_THREAD_KEEP_ALIVE, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                task -> daemon(task, "game-connection"));
+
+        executor.allowCoreThreadTimeOut(true);
+
+        return executor;
+    }
+
+    //-----------------------------------------------------------------
+    //  Unstarted daemon platform thread.
+    //-----------------------------------------------------------------
+    private static Thread daemon(Runnable task, String name) {
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    //-----------------------------------------------------------------
+    //  Runs a server until the process is stopped.
+    //-----------------------------------------------------------------
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 4700;
+        long hibernateSeconds = args.length > 1 ? Long.parseLong(args[1]) : 30;
+
+        GameServer server = new GameServer(port, TimeUnit.SECONDS.toMillis(hibernateSeconds));
+        server.start();
+        System.out.println("listening on 127.0.0.1:" + server.getPort());
+
+        Thread.currentThread().join();
+    }
+}
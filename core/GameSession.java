@@ -0,0 +1,354 @@
+//********************************************************************
+//  GameSession.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  One game hosted by GameServer.  As in MinesweeperFX the game has
+//  a timer taken from its level, and the game is lost when it runs
+//  out: the first request or sweep after the deadline forfeits it
+//  under the write lock, so the board, the status and any snapshot
+//  all show the loss.  An idle session can be hibernated: the game
+//  is replaced by its snapshot bytes, 84 bytes for a beginner board
+//  and 260 for an expert one, and restored on the next request.
+//
+//  The session is guarded by a StampedLock, normally one of the
+//  server's LockStripes.  Moves, hibernation and waking take the
+//  write lock, so requests for one game are applied one at a time;
+//  status and board reads are optimistic and only take the read lock
+//  when a move overlapped them, so spectators always see a whole
+//  move or none of it.
+//********************************************************************
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.StampedLock;
+
+public class GameSession {
+    // session identifier.
+    private final long id;
+    // board size and mine count.
+    private final int rows, cols, mines;
+    // game timer, in minutes.
+    private final int timeout;
+    // System.nanoTime when the timer runs out.
+    private final long deadline;
+    // guards the fields below, possibly shared with other sessions.
+    private final StampedLock lock;
+
+    // the game, null while hibernated.
+    private minesweeper game;
+    // snapshot of the game while hibernated.
+    private byte[] hibernated;
+    // status as of the last request.
+    private GameStatus status;
+    // System.nanoTime of the last request.  Set without the write
+    // lock by reads, any recent value will do.
+    private volatile long lastAccess;
+
+    //-----------------------------------------------------------------
+    //  Constructor.  The timer starts now.  The session gets a lock
+    //  of its own.
+    //-----------------------------------------------------------------
+    public GameSession(long id, minesweeper game, int timeout) {
+        this(id, game, timeout, new StampedLock());
+    }
+
+    //-----------------------------------------------------------------
+    //  Constructor.  Accepts the lock guarding the session, normally
+    //  LockStripes.lockFor the session id.
+    //-----------------------------------------------------------------
+    public GameSession(long id, minesweeper game, int timeout, StampedLock lock) {
+        this.id = id;
+        this.lock = lock;
+        this.game = game;
+        this.rows = game.getRows();
+        this.cols = game.getCols();
+        this.mines = game.getMineCount();
+        this.timeout = timeout;
+        this.status = game.getGameStatus();
+        this.lastAccess = System.nanoTime();
+        this.deadline = this.lastAccess + TimeUnit.MINUTES.toNanos(timeout);
+    }
+
+    //-----------------------------------------------------------------
+    //  Game timer for a board of the given size: the timer of the
+    //  smallest level at least as large, or of the largest level.
+    //-----------------------------------------------------------------
+    public static int timeoutFor(int rows, int cols) {
+        GameLevel[] levels = GameLevel.values();
+
+        for (GameLevel level : levels) {
+            if ((long) rows * cols <= level.getRows() * level.getCols()) {
+                return level.getTimeout();
+            }
+        }
+
+        return levels[levels.length - 1].getTimeout();
+    }
+
+    //-----------------------------------------------------------------
+    //  Session identifier accessor.
+    //-----------------------------------------------------------------
+    public long getId() {
+        return this.id;
+    }
+
+    //-----------------------------------------------------------------
+    //  Board height accessor.
+    //-----------------------------------------------------------------
+    public int getRows() {
+        return this.rows;
+    }
+
+    //-----------------------------------------------------------------
+    //  Board width accessor.
+    //-----------------------------------------------------------------
+    public int getCols() {
+        return this.cols;
+    }
+
+    //-----------------------------------------------------------------
+    //  Number of mines on the board.
+    //-----------------------------------------------------------------
+    public int getMineCount() {
+        return this.mines;
+    }
+
+    //-----------------------------------------------------------------
+    //  Game timer accessor, in minutes.
+    //-----------------------------------------------------------------
+    public int getTimeout() {
+        return this.timeout;
+    }
+
+    //-----------------------------------------------------------------
+    //  Seconds left on the timer at System.nanoTime now.
+    //-----------------------------------------------------------------
+    public long secondsLeft(long now) {
+        return Math.max(0, TimeUnit.NANOSECONDS.toSeconds(this.deadline - now));
+    }
+
+    //-----------------------------------------------------------------
+    //  Game status.  LOSE once the timer has run out.
+    //-----------------------------------------------------------------
+    public GameStatus getGameStatus() {
+        long now = System.nanoTime();
+
+        this.lastAccess = now;
+
+        return expire(now);
+    }
+
+    //-----------------------------------------------------------------
+    //  Ends the game if it is in play and the timer has run out at
+    //  System.nanoTime now, and returns the game status.  The status
+    //  is read optimistically; the write lock is only taken to end
+    //  the game.  Does not count as a use of the session.
+    //-----------------------------------------------------------------
+    public GameStatus expire(long now) {
+        long stamp = this.lock.tryOptimisticRead();
+        GameStatus current = this.status;
+
+        if (!this.lock.validate(stamp)) {
+            stamp = this.lock.readLock();
+
+            try {
+                current = this.status;
+            } finally {
+                this.lock.unlockRead(stamp);
+            }
+        }
+
+        if (current == GameStatus.PLAY && now - this.deadline >= 0) {
+            stamp = this.lock.writeLock();
+
+            try {
+                current = endIfExpired(now);
+            } finally {
+                this.lock.unlockWrite(stamp);
+            }
+        }
+
+        return current;
+    }
+
+    //-----------------------------------------------------------------
+    //  Applies a move.  Moves after the timer has run out are
+    //  ignored.  Returns the tiles changed and the status after the
+    //  move.
+    //-----------------------------------------------------------------
+    public MoveBatchResult markTile(int row, int col, int tile) {
+        long stamp = this.lock.writeLock();
+
+        try {
+            this.lastAccess = System.nanoTime();
+
+            GameStatus current = endIfExpired(this.lastAccess);
+
+            if (current != GameStatus.PLAY) {
+                return new MoveBatchResult(0, 0, current, -1);
+            }
+
+            minesweeper active = wake();
+
+            active.markTile(row, col, tile);
+            this.status = active.getGameStatus();
+
+            return new MoveBatchResult(1, active.getChangedCount(), this.status,
+                    this.status == GameStatus.PLAY ? -1 : 0);
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Writes the board, as minesweeper.writeBoard does, and returns
+    //  the game status it shows.  The board is rendered before
+    //  anything is written, so a slow client never holds the lock.
+    //-----------------------------------------------------------------
+    public GameStatus writeBoard(Appendable out) throws IOException {
+        long now = System.nanoTime();
+
+        this.lastAccess = now;
+        expire(now);
+
+        long stamp = this.lock.tryOptimisticRead();
+        String text = null;
+        GameStatus current = null;
+
+        if (stamp != 0) {
+            try {
+                minesweeper active = this.game;
+                current = this.status;
+                text = active != null ? active.toStringBoard() : null;
+            } catch (RuntimeException e) {
+                // a move overlapped the read.
+                text = null;
+            }
+
+            if (!this.lock.validate(stamp)) {
+                text = null;
+            }
+        }
+
+        if (text == null) {
+            stamp = this.lock.readLock();
+
+            try {
+                if (this.game != null) {
+                    current = this.status;
+                    text = this.game.toStringBoard();
+                }
+            } finally {
+                this.lock.unlockRead(stamp);
+            }
+        }
+
+        if (text == null) {
+            // hibernated, waking it needs the write lock.
+            stamp = this.lock.writeLock();
+
+            try {
+                current = this.status;
+                text = wake().toStringBoard();
+            } finally {
+                this.lock.unlockWrite(stamp);
+            }
+        }
+
+        out.append(text);
+
+        return current;
+    }
+
+    //-----------------------------------------------------------------
+    //  Hibernates the game if it has not been used since idleBefore.
+    //  A session busy with a move is left alone.  Returns true if it
+    //  was hibernated by this call.
+    //-----------------------------------------------------------------
+    public boolean hibernate(long idleBefore) {
+        long stamp = this.lock.tryWriteLock();
+
+        if (stamp == 0) {
+            return false;
+        }
+
+        try {
+            if (this.game == null || this.lastAccess - idleBefore > 0) {
+                return false;
+            }
+
+            this.hibernated = this.game.snapshot().toByteArray();
+            this.game = null;
+
+            return true;
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Returns true while the game is hibernated.
+    //-----------------------------------------------------------------
+    public boolean isHibernated() {
+        long stamp = this.lock.readLock();
+
+        try {
+            return this.game == null;
+        } finally {
+            this.lock.unlockRead(stamp);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Returns true if the game is over, won or lost, and has not been
+    //  used since idleBefore.  A game out of time only counts once
+    //  expire has ended it.
+    //-----------------------------------------------------------------
+    public boolean isFinished(long idleBefore) {
+        long stamp = this.lock.readLock();
+
+        try {
+            return this.status != GameStatus.PLAY && this.lastAccess - idleBefore <= 0;
+        } finally {
+            this.lock.unlockRead(stamp);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Forfeits the game if it is in play and the timer has run out
+    //  at System.nanoTime now, waking it first so the loss is kept in
+    //  its next snapshot.  Called with the write lock held.  Returns
+    //  the game status.
+    //-----------------------------------------------------------------
+    private GameStatus endIfExpired(long now) {
+        if (this.status == GameStatus.PLAY && now - this.deadline >= 0) {
+            minesweeper active = wake();
+
+            active.forfeit();
+            this.status = active.getGameStatus();
+        }
+
+        return this.status;
+    }
+
+    //-----------------------------------------------------------------
+    //  The game, restored from its snapshot if hibernated.  Called
+    //  with the write lock held.
+    //-----------------------------------------------------------------
+    private minesweeper wake() {
+        if (this.game == null) {
+            try {
+                this.game = new minesweeper(GameSnapshot.fromByteArray(this.hibernated));
+            } catch (IOException e) {
+                // the bytes came from toByteArray, they cannot be short.
+                throw new UncheckedIOException(e);
+            }
+            this.hibernated = null;
+        }
+
+        return this.game;
+    }
+}
@@ -0,0 +1,416 @@
+//********************************************************************
+//  GameSnapshot.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  Saved state of a minesweeper game.  Mines are held one bit per
+//  cell and tiles two bits per cell, both in row-major order; clue
+//  values are not stored, they are recalculated from the mines when
+//  the game is restored.
+//
+//  Binary format, all values little-endian:
+//      int   magic "MSSN"
+//      int   format version
+//      int   rows, cols
+//      long  seed
+//      int   status (GameStatus ordinal)
+//      int   mine count, unopened safe tiles, flags, wrong flags
+//      long  mine plane words, then tile plane words
+//********************************************************************
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+public class GameSnapshot {
+    // identifies a snapshot, "MSSN".
+    private static final int MAGIC = 0x4D53534E;
+    // snapshot format version.
+    public static final int VERSION = 1;
+    // bytes before the mine plane.
+    private static final int HEADER_SIZE = 44;
+    // size of the buffer used to move the planes through a channel.
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    // board dimensions.
+    private final int rows, cols;
+    // seed the mines were placed from.
+    private final long seed;
+    // game status.
+    private final GameStatus status;
+    // game status counters.
+    private final int mineCount, unopenedSafeTiles, flagsPlaced, wrongFlags;
+    // mine bits.  bit i & 63 of word i >>> 6 is cell i = row * cols + col.
+    private final long[] minePlane;
+    // tile values.  bits 2 * (i & 31) of word i >>> 5 hold cell i.
+    private final long[] tilePlane;
+
+    //-----------------------------------------------------------------
+    //  Constructor.  The planes are used as they are, not copied.
+    //-----------------------------------------------------------------
+    public GameSnapshot(int rows, int cols, long seed, GameStatus status,
+                        int mineCount, int unopenedSafeTiles, int flagsPlaced, int wrongFlags,
+                        long[] minePlane, long[] tilePlane) {
+        if (rows < 1 || cols < 1) {
+            throw new IllegalArgumentException("board must have at least one row and column");
+        }
+
+        long cellTotal = (long) rows * cols;
+
+        if (cellTotal > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("board too large: " + rows + " x " + cols);
+        }
+
+        if (minePlane.length != minePlaneLength(cellTotal) || tilePlane.length != tilePlaneLength(cellTotal)) {
+            throw new IllegalArgumentException("plane sizes do not match a " + rows + " x " + cols + " board");
+        }
+
+        this.rows = rows;
+        this.cols = cols;
+        this.seed = seed;
+        this.status = status;
+        this.mineCount = mineCount;
+        this.unopenedSafeTiles = unopenedSafeTiles;
+        this.flagsPlaced = flagsPlaced;
+        this.wrongFlags = wrongFlags;
+        this.minePlane = minePlane;
+        this.tilePlane = tilePlane;
+    }
+
+    //-----------------------------------------------------------------
+    //  Number of words in the mine plane of a board.
+    //-----------------------------------------------------------------
+    public static int minePlaneLength(long cellTotal) {
+        return (int) ((cellTotal + 63) >>> 6);
+    }
+
+    //-----------------------------------------------------------------
+    //  Number of words in the tile plane of a board.
+    //-----------------------------------------------------------------
+    public static int tilePlaneLength(long cellTotal) {
+        return (int) ((cellTotal + 31) >>> 5);
+    }
+
+    //-----------------------------------------------------------------
+    //  Board height accessor.
+    //-----------------------------------------------------------------
+    public int getRows() {
+        return this.rows;
+    }
+
+    //-----------------------------------------------------------------
+    //  Board width accessor.
+    //-----------------------------------------------------------------
+    public int getCols() {
+        return this.cols;
+    }
+
+    //-----------------------------------------------------------------
+    //  Seed accessor.
+    //-----------------------------------------------------------------
+    public long getSeed() {
+        return this.seed;
+    }
+
+    //-----------------------------------------------------------------
+    //  Game status accessor.
+    //-----------------------------------------------------------------
+    public GameStatus getStatus() {
+        return this.status;
+    }
+
+    //-----------------------------------------------------------------
+    //  Number of mines on the board.
+    //-----------------------------------------------------------------
+    public int getMineCount() {
+        return this.mineCount;
+    }
+
+    //-----------------------------------------------------------------
+    //  Number of safe tiles not yet opened.
+    //-----------------------------------------------------------------
+    public int getUnopenedSafeTiles() {
+        return this.unopenedSafeTiles;
+    }
+
+    //-----------------------------------------------------------------
+    //  Number of flags on the board.
+    //-----------------------------------------------------------------
+    public int getFlagsPlaced() {
+        return this.flagsPlaced;
+    }
+
+    //-----------------------------------------------------------------
+    //  Number of flags on tiles without a mine.
+    //-----------------------------------------------------------------
+    public int getWrongFlags() {
+        return this.wrongFlags;
+    }
+
+    //-----------------------------------------------------------------
+    //  Returns true if cell row * cols + col holds a mine.
+    //-----------------------------------------------------------------
+    public boolean isMine(int row, int col) {
+        long i = (long) row * this.cols + col;
+        return (this.minePlane[(int) (i >>> 6)] & (1L << i)) != 0;
+    }
+
+    //-----------------------------------------------------------------
+    //  Tile value of cell row,col.
+    //-----------------------------------------------------------------
+    public int getTile(int row, int col) {
+        long i = (long) row * this.cols + col;
+        return (int) (this.tilePlane[(int) (i >>> 5)] >>> ((i & 31) << 1)) & 3;
+    }
+
+    //-----------------------------------------------------------------
+    //  Mine plane, shared with the snapshot.
+    //-----------------------------------------------------------------
+    long[] getMinePlane() {
+        return this.minePlane;
+    }
+
+    //-----------------------------------------------------------------
+    //  Tile plane, shared with the snapshot.
+    //-----------------------------------------------------------------
+    long[] getTilePlane() {
+        return this.tilePlane;
+    }
+
+    //-----------------------------------------------------------------
+    //  Number of bytes write produces.
+    //-----------------------------------------------------------------
+    public long getByteSize() {
+        return HEADER_SIZE + 8L * (this.minePlane.length + this.tilePlane.length);
+    }
+
+    //-----------------------------------------------------------------
+    //  Writes the snapshot to a channel.
+    //-----------------------------------------------------------------
+    public void write(WritableByteChannel out) throws IOException {
+        write(out, ByteBuffer.allocateDirect(BUFFER_SIZE));
+    }
+
+    //-----------------------------------------------------------------
+    //  Writes the snapshot to a channel through the caller's buffer,
+    //  for callers that write snapshots often.  The buffer must hold
+    //  at least the header; it is cleared, set to little-endian and
+    //  left empty.
+    //-----------------------------------------------------------------
+    public void write(WritableByteChannel out, ByteBuffer buffer) throws IOException {
+        checkBuffer(buffer);
+        buffer.clear().order(ByteOrder.LITTLE_ENDIAN);
+
+        putHeader(buffer);
+        writeWords(this.minePlane, buffer, out);
+        writeWords(this.tilePlane, buffer, out);
+
+        buffer.flip();
+        writeFully(buffer, out);
+        buffer.clear();
+    }
+
+    //-----------------------------------------------------------------
+    //  The bytes write produces, in a heap array.  Used for small
+    //  boards, where a channel and its buffer cost more than the
+    //  snapshot itself.
+    //-----------------------------------------------------------------
+    public byte[] toByteArray() {
+        if (getByteSize() > Integer.MAX_VALUE) {
+            throw new IllegalStateException("snapshot too large for a byte array");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) getByteSize()).order(ByteOrder.LITTLE_ENDIAN);
+
+        putHeader(buffer);
+        buffer.asLongBuffer().put(this.minePlane).put(this.tilePlane);
+
+        return buffer.array();
+    }
+
+    //-----------------------------------------------------------------
+    //  Reads a snapshot written by write.
+    //-----------------------------------------------------------------
+    public static GameSnapshot read(ReadableByteChannel in) throws IOException {
+        return read(in, ByteBuffer.allocateDirect(BUFFER_SIZE));
+    }
+
+    //-----------------------------------------------------------------
+    //  Reads a snapshot written by write through the caller's buffer.
+    //  The buffer must hold at least the header; it is cleared and
+    //  set to little-endian.  Only the snapshot is read from the
+    //  channel.
+    //-----------------------------------------------------------------
+    public static GameSnapshot read(ReadableByteChannel in, ByteBuffer buffer) throws IOException {
+        checkBuffer(buffer);
+        buffer.clear().order(ByteOrder.LITTLE_ENDIAN);
+
+        buffer.limit(HEADER_SIZE);
+        readFully(buffer, in);
+        buffer.flip();
+
+        GameSnapshot snapshot = decode(buffer, in);
+
+        buffer.clear();
+
+        return snapshot;
+    }
+
+    //-----------------------------------------------------------------
+    //  Reads a snapshot from the bytes toByteArray returned.
+    //-----------------------------------------------------------------
+    public static GameSnapshot fromByteArray(byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+
+        if (bytes.length < HEADER_SIZE) {
+            throw new EOFException("snapshot ends early");
+        }
+
+        // every byte is already in the buffer, the channel is only
+        // read if the array is short.
+        return decode(buffer, Channels.newChannel(InputStream.nullInputStream()));
+    }
+
+    //-----------------------------------------------------------------
+    //  Decodes the header in the buffer, then the planes from what is
+    //  left of the buffer followed by the channel.
+    //-----------------------------------------------------------------
+    private static GameSnapshot decode(ByteBuffer buffer, ReadableByteChannel in) throws IOException {
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("not a minesweeper snapshot");
+        }
+
+        int version = buffer.getInt();
+
+        if (version != VERSION) {
+            throw new IOException("unsupported snapshot version " + version);
+        }
+
+        int rows = buffer.getInt();
+        int cols = buffer.getInt();
+        long seed = buffer.getLong();
+        int statusOrdinal = buffer.getInt();
+        int mineCount = buffer.getInt();
+        int unopenedSafeTiles = buffer.getInt();
+        int flagsPlaced = buffer.getInt();
+        int wrongFlags = buffer.getInt();
+
+        long cellTotal = (long) rows * cols;
+
+        // checked before the planes are allocated, so a bad header
+        // cannot ask for gigabytes.
+        if (rows < 1 || cols < 1 || cellTotal > Integer.MAX_VALUE
+                || statusOrdinal < 0 || statusOrdinal >= GameStatus.values().length
+                || mineCount < 0 || mineCount > cellTotal
+                || unopenedSafeTiles < 0 || unopenedSafeTiles > cellTotal - mineCount
+                || flagsPlaced < 0 || flagsPlaced > cellTotal
+                || wrongFlags < 0 || wrongFlags > flagsPlaced) {
+            throw new IOException("corrupt snapshot header");
+        }
+        long[] minePlane = new long[minePlaneLength(cellTotal)];
+        long[] tilePlane = new long[tilePlaneLength(cellTotal)];
+
+        readWords(minePlane, buffer, in);
+        readWords(tilePlane, buffer, in);
+
+        return new GameSnapshot(rows, cols, seed, GameStatus.values()[statusOrdinal],
+                mineCount, unopenedSafeTiles, flagsPlaced, wrongFlags, minePlane, tilePlane);
+    }
+
+    //-----------------------------------------------------------------
+    //  Throws IllegalArgumentException for a buffer too small for the
+    //  header.
+    //-----------------------------------------------------------------
+    private static void checkBuffer(ByteBuffer buffer) {
+        if (buffer.capacity() < HEADER_SIZE) {
+            throw new IllegalArgumentException("snapshot buffer must hold at least " + HEADER_SIZE + " bytes");
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Puts the header fields in the buffer.
+    //-----------------------------------------------------------------
+    private void putHeader(ByteBuffer buffer) {
+        buffer.putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(this.rows)
+                .putInt(this.cols)
+                .putLong(this.seed)
+                .putInt(this.status.ordinal())
+                .putInt(this.mineCount)
+                .putInt(this.unopenedSafeTiles)
+                .putInt(this.flagsPlaced)
+                .putInt(this.wrongFlags);
+    }
+
+    //-----------------------------------------------------------------
+    //  Adds words to the buffer, writing it out whenever it fills.
+    //-----------------------------------------------------------------
+    private static void writeWords(long[] words, ByteBuffer buffer, WritableByteChannel out) throws IOException {
+        int i = 0;
+
+        while (i < words.length) {
+            if (buffer.remaining() < Long.BYTES) {
+                buffer.flip();
+                writeFully(buffer, out);
+                buffer.clear();
+            }
+
+            int count = Math.min(words.length - i, buffer.remaining() / Long.BYTES);
+            buffer.asLongBuffer().put(words, i, count);
+            buffer.position(buffer.position() + count * Long.BYTES);
+            i += count;
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Fills words from the buffer, reading more whenever it empties.
+    //-----------------------------------------------------------------
+    private static void readWords(long[] words, ByteBuffer buffer, ReadableByteChannel in) throws IOException {
+        int i = 0;
+
+        while (i < words.length) {
+            if (buffer.remaining() < Long.BYTES) {
+                // read no more than the words still missing, so the
+                // channel is left positioned after the snapshot.
+                long missing = (long) (words.length - i) * Long.BYTES - buffer.remaining();
+
+                buffer.compact();
+                buffer.limit((int) Math.min(buffer.capacity(), buffer.position() + missing));
+                readFully(buffer, in);
+                buffer.flip();
+            }
+
+            int count = Math.min(words.length - i, buffer.remaining() / Long.BYTES);
+            buffer.asLongBuffer().get(words, i, count);
+            buffer.position(buffer.position() + count * Long.BYTES);
+            i += count;
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Writes all remaining bytes of the buffer.
+    //-----------------------------------------------------------------
+    private static void writeFully(ByteBuffer buffer, WritableByteChannel out) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Reads until the buffer is full.
+    //-----------------------------------------------------------------
+    private static void readFully(ByteBuffer buffer, ReadableByteChannel in) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (in.read(buffer) < 0) {
+                throw new EOFException("snapshot ends early");
+            }
+        }
+    }
+}
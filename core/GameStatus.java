@@ -0,0 +1,45 @@
+//********************************************************************
+//  GameStatus.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  Game status enumeration.  Each status keeps its Constants text
+//  ("play", "win", "lose") for the String based accessors.
+//********************************************************************
+
+public enum GameStatus {
+    PLAY(Constants.PLAY),
+    WIN(Constants.WIN),
+    LOSE(Constants.LOSE);
+
+    // status text as used by Constants.
+    private final String text;
+
+    //-----------------------------------------------------------------
+    //  Constructor.  Accepts the status text.
+    //-----------------------------------------------------------------
+    GameStatus(String text) {
+        this.text = text;
+    }
+
+    //-----------------------------------------------------------------
+    //  Returns the status for the given text, null if unknown.
+    //-----------------------------------------------------------------
+    public static GameStatus fromText(String text) {
+        for (GameStatus status : values()) {
+            if (status.text.equals(text)) {
+                return status;
+            }
+        }
+
+        return null;
+    }
+
+    //-----------------------------------------------------------------
+    //  Returns the status text, "play", "win" or "lose".
+    //-----------------------------------------------------------------
+    public String toString() {
+        return this.text;
+    }
+}
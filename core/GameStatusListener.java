@@ -0,0 +1,17 @@
+//********************************************************************
+//  GameStatusListener.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  Callback for game status transitions.  Only called when the
+//  status actually changes, never for moves that leave it as is.
+//********************************************************************
+
+public interface GameStatusListener {
+
+    //-----------------------------------------------------------------
+    //  Called after the game status changed from oldStatus.
+    //-----------------------------------------------------------------
+    void statusChanged(GameData game, GameStatus oldStatus, GameStatus newStatus);
+}
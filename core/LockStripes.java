@@ -0,0 +1,57 @@
+//********************************************************************
+//  LockStripes.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  Fixed set of StampedLocks shared by many games.  A game takes the
+//  lock its key (normally a session id) hashes to, so a server with
+//  tens of thousands of games holds a few hundred locks instead of
+//  one per game, and never one lock for all of them.  Games sharing
+//  a stripe also share their moves' exclusion, which only costs
+//  anything when two of them are played at the same instant.
+//********************************************************************
+
+import java.util.concurrent.locks.StampedLock;
+
+public class LockStripes {
+    // the locks, a power of two of them.
+    private final StampedLock[] locks;
+    // stripes - 1, selects a stripe from a hash.
+    private final int mask;
+
+    //-----------------------------------------------------------------
+    //  Constructor.  The number of stripes is rounded up to a power
+    //  of two.
+    //-----------------------------------------------------------------
+    public LockStripes(int stripes) {
+        if (stripes < 1 || stripes > 1 << 30) {
+            throw new IllegalArgumentException("stripes must be 1 to 2^30");
+        }
+
+        int size = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+
+        this.locks = new StampedLock[size];
+        this.mask = size - 1;
+
+        for (int i = 0; i < size; i++) {
+            this.locks[i] = new StampedLock();
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Number of stripes.
+    //-----------------------------------------------------------------
+    public int getStripes() {
+        return this.locks.length;
+    }
+
+    //-----------------------------------------------------------------
+    //  Lock for the given key.  Keys are mixed first, so sequential
+    //  ids still spread over every stripe.
+    //-----------------------------------------------------------------
+    public StampedLock lockFor(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return this.locks[(int) (hash ^ (hash >>> 32)) & this.mask];
+    }
+}
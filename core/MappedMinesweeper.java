@@ -0,0 +1,753 @@
+//********************************************************************
+//  MappedMinesweeper.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  Minesweeper board stored in a memory-mapped file instead of the
+//  heap, so board size is limited by disk space rather than by the
+//  Java heap.  Cells use the packed BoardCells format, one byte per
+//  cell, and are indexed by the long value row * cols + col.  The
+//  file header holds the board size, seed, status and counters, so
+//  a board can be reopened by a later process without regenerating.
+//
+//  File layout:
+//      0   int   magic
+//      4   int   version
+//      8   int   rows
+//      12  int   cols
+//      16  long  seed
+//      24  long  mine count
+//      32  long  unopened safe tiles
+//      40  long  flags placed
+//      48  long  wrong flags
+//      56  int   status (GameStatus ordinal)
+//      60  int   1 while cells are marked pending, else 0
+//      64  ...   cells
+//
+//  Opening a blank area needs no heap proportional to its size: the
+//  flood keeps a fixed-size queue, and cells that do not fit are
+//  marked pending in bit 6 of the mapped cell.  A bit per window of
+//  rows records where marks are, so once the queue runs dry only
+//  those windows are scanned.  A file left with pending marks by a
+//  process that died mid-move finishes the flood when it is opened.
+//  The changed cells of a move are likewise only listed up to
+//  CHANGED_LIMIT; a change listener sees them all.
+//********************************************************************
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+
+public class MappedMinesweeper implements GameData, Closeable {
+    // identifies a mapped board file, "MSMB".
+    private static final int MAGIC = 0x4D534D42;
+    // file format version.
+    private static final int VERSION = 1;
+    // bytes before the first cell.
+    private static final int HEADER_SIZE = 64;
+    // header field offsets.
+    private static final int ROWS_AT = 8, COLS_AT = 12, SEED_AT = 16, MINES_AT = 24,
+            UNOPENED_AT = 32, FLAGS_AT = 40, WRONG_FLAGS_AT = 48, STATUS_AT = 56,
+            PENDING_AT = 60;
+
+    // cells are mapped in segments of 2^SEGMENT_SHIFT bytes, as
+    // a single mapping can not exceed 2 GB.
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    // rows per task when calculating clues in parallel.
+    private static final int STRIPE_ROWS = 64;
+
+    // most cells a move lists in getChangedCells.
+    public static final int CHANGED_LIMIT = 1 << 16;
+    // entries in the flood queue, a power of two.
+    private static final int FLOOD_QUEUE_SIZE = 1 << 16;
+    // cell bit marking a blank cell the flood still has to expand,
+    // outside the BoardCells mine and tile bits.
+    private static final int PENDING = 0x40;
+    // most row windows tracked for pending marks.
+    private static final int MAX_PENDING_WINDOWS = 1 << 16;
+
+    // the board file.
+    private final FileChannel channel;
+    // mapped header.
+    private final MappedByteBuffer header;
+    // mapped cells.
+    private final MappedByteBuffer[] segments;
+
+    // board dimensions.
+    private final int rows, cols;
+    // game status counters, mirrored in the header.
+    private long mineCount, unopenedSafeTiles, flagsPlaced, wrongFlags;
+    // game status, mirrored in the header.
+    private GameStatus status;
+
+    // listeners called when the game status changes.
+    private final List<GameStatusListener> statusListeners = new ArrayList<>();
+
+    // running count of tile value changes.
+    private int tileChanges;
+    // cells changed by the last markTile, as row * cols + col.
+    private long[] changedCells = new long[16];
+    // number of entries in use in changedCells.
+    private int changedCount;
+    // true if the last markTile changed more than CHANGED_LIMIT cells.
+    private boolean changedOverflow;
+    // called with every changed cell, or null.
+    private LongConsumer changeListener;
+
+    // work queue of cell indexes for opening blank areas, a ring
+    // buffer allocated on first use.
+    private long[] floodQueue;
+    // row windows that may hold PENDING marks.
+    private final BitSet pendingWindows = new BitSet();
+    // rows per pending window.
+    private final int windowRows;
+
+    //-----------------------------------------------------------------
+    //  Constructor.  Maps an open board file; use create or open.
+    //-----------------------------------------------------------------
+    private MappedMinesweeper(FileChannel channel, int rows, int cols) throws IOException {
+        this.channel = channel;
+        this.rows = rows;
+        this.cols = cols;
+        this.windowRows = (rows + MAX_PENDING_WINDOWS - 1) / MAX_PENDING_WINDOWS;
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+
+        long cellTotal = (long) rows * cols;
+        int segmentCount = (int) ((cellTotal + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+        this.segments = new MappedByteBuffer[segmentCount];
+
+        for (int segment = 0; segment < segmentCount; segment++) {
+            long start = (long) segment << SEGMENT_SHIFT;
+            long size = Math.min(1L << SEGMENT_SHIFT, cellTotal - start);
+            this.segments[segment] = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + start, size);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Creates a new board file of rows x cols with the given number
+    //  of mines placed from seed, replacing any existing file.
+    //-----------------------------------------------------------------
+    public static MappedMinesweeper create(Path file, int rows, int cols, long mines, long seed)
+            throws IOException {
+        if (rows < 1 || cols < 1) {
+            throw new IllegalArgumentException("board must have at least one row and column");
+        }
+
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        MappedMinesweeper game = new MappedMinesweeper(channel, rows, cols);
+        game.generate(Math.max(0, Math.min(mines, (long) rows * cols)), seed);
+
+        return game;
+    }
+
+    //-----------------------------------------------------------------
+    //  Reopens a board file written by create.
+    //-----------------------------------------------------------------
+    public static MappedMinesweeper open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        try {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("not a mapped minesweeper board: " + file);
+            }
+
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                throw new IOException("not a mapped minesweeper board: " + file);
+            }
+
+            int rows = header.getInt(ROWS_AT);
+            int cols = header.getInt(COLS_AT);
+            int statusOrdinal = header.getInt(STATUS_AT);
+            long cellTotal = (long) rows * cols;
+
+            if (rows < 1 || cols < 1 || channel.size() != HEADER_SIZE + cellTotal) {
+                throw new IOException("board size does not match the file length: " + file);
+            }
+
+            long mines = header.getLong(MINES_AT);
+            long unopened = header.getLong(UNOPENED_AT);
+            long flags = header.getLong(FLAGS_AT);
+            long wrongFlags = header.getLong(WRONG_FLAGS_AT);
+
+            if (statusOrdinal < 0 || statusOrdinal >= GameStatus.values().length
+                    || mines < 0 || mines > cellTotal
+                    || unopened < 0 || unopened > cellTotal - mines
+                    || flags < 0 || flags > cellTotal
+                    || wrongFlags < 0 || wrongFlags > flags) {
+                throw new IOException("corrupt board header: " + file);
+            }
+
+            MappedMinesweeper game = new MappedMinesweeper(channel, rows, cols);
+            game.mineCount = mines;
+            game.unopenedSafeTiles = unopened;
+            game.flagsPlaced = flags;
+            game.wrongFlags = wrongFlags;
+            game.status = GameStatus.values()[statusOrdinal];
+
+            if (game.header.getInt(PENDING_AT) != 0) {
+                game.finishFlood();
+            }
+
+            return game;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Game status accessor.
+    //-----------------------------------------------------------------
+    public GameStatus getGameStatus() {
+        return this.status;
+    }
+
+    //-----------------------------------------------------------------
+    //  Registers a listener called on every status transition.
+    //-----------------------------------------------------------------
+    public void addStatusListener(GameStatusListener listener) {
+        this.statusListeners.add(listener);
+    }
+
+    //-----------------------------------------------------------------
+    //  Removes a previously registered status listener.
+    //-----------------------------------------------------------------
+    public void removeStatusListener(GameStatusListener listener) {
+        this.statusListeners.remove(listener);
+    }
+
+    //-----------------------------------------------------------------
+    //  Board height accessor.
+    //-----------------------------------------------------------------
+    public int getRows() {
+        return this.rows;
+    }
+
+    //-----------------------------------------------------------------
+    //  Board width accessor.
+    //-----------------------------------------------------------------
+    public int getCols() {
+        return this.cols;
+    }
+
+    //-----------------------------------------------------------------
+    //  Number of mines on the board.
+    //-----------------------------------------------------------------
+    public long getMineCount() {
+        return this.mineCount;
+    }
+
+    //-----------------------------------------------------------------
+    //  Seed the mines were placed from.
+    //-----------------------------------------------------------------
+    public long getSeed() {
+        return this.header.getLong(SEED_AT);
+    }
+
+    //-----------------------------------------------------------------
+    //  Mine accessor, -1 if row,col is not on the board.
+    //-----------------------------------------------------------------
+    public int getMines(int row, int col) {
+        return validIndex(row, col) ? BoardCells.mine(cell(cellIndex(row, col))) : -1;
+    }
+
+    //-----------------------------------------------------------------
+    //  Tile accessor, -1 if row,col is not on the board.
+    //-----------------------------------------------------------------
+    public int getTiles(int row, int col) {
+        return validIndex(row, col) ? BoardCells.tile(cell(cellIndex(row, col))) : -1;
+    }
+
+    //-----------------------------------------------------------------
+    //  Tile mutator.  Follows the minesweeper rules.
+    //-----------------------------------------------------------------
+    public void markTile(int row, int col, int tile) {
+        this.changedCount = 0;
+        this.changedOverflow = false;
+
+        if (validIndex(row, col) && this.status == GameStatus.PLAY) {
+            long index = cellIndex(row, col);
+            int currentTileValue = BoardCells.tile(cell(index));
+
+            if (tile == Constants.OPENED) {
+                if (currentTileValue != Constants.OPENED && currentTileValue != Constants.FLAG) {
+                    setTile(index, Constants.OPENED);
+
+                    int mine = BoardCells.mine(cell(index));
+
+                    if (mine == Constants.MINE) {
+                        setStatus(GameStatus.LOSE);
+                    } else if (mine == Constants.OPENED) {
+                        openBlankArea(index);
+                    }
+                }
+            } else if (currentTileValue != Constants.OPENED
+                    && tile >= Constants.CLOSED && tile <= Constants.FLAG) {
+                setTile(index, tile);
+            }
+
+            checkGameStatus();
+            writeCounters();
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Batch tile mutator, see GameData.
+    //-----------------------------------------------------------------
+    public MoveBatchResult markTiles(int[] moves) {
+        int changesBefore = this.tileChanges;
+        int moveCount = moves.length / 3;
+        int applied = 0;
+        int endingMove = -1;
+
+        while (applied < moveCount && this.status == GameStatus.PLAY) {
+            int move = applied * 3;
+            markTile(moves[move], moves[move + 1], moves[move + 2]);
+            applied++;
+
+            if (this.status != GameStatus.PLAY) {
+                endingMove = applied - 1;
+            }
+        }
+
+        return new MoveBatchResult(applied, this.tileChanges - changesBefore, this.status, endingMove);
+    }
+
+    //-----------------------------------------------------------------
+    //  Cells changed by the last markTile as row * cols + col.  Empty
+    //  when the board has more cells than an int index can address,
+    //  use getChangedPositions for those boards, or when the move
+    //  changed more than CHANGED_LIMIT cells.
+    //-----------------------------------------------------------------
+    public int[] getChangedCells() {
+        if ((long) this.rows * this.cols > Integer.MAX_VALUE || this.changedOverflow) {
+            return new int[0];
+        }
+
+        int[] result = new int[this.changedCount];
+
+        for (int i = 0; i < this.changedCount; i++) {
+            result[i] = (int) this.changedCells[i];
+        }
+
+        return result;
+    }
+
+    //-----------------------------------------------------------------
+    //  True, see GameData.  The segments are mapped once in the
+    //  constructor and never remapped, and cells are read with
+    //  absolute gets that leave the buffer positions alone.
+    //-----------------------------------------------------------------
+    public boolean supportsConcurrentReads() {
+        return true;
+    }
+
+    //-----------------------------------------------------------------
+    //  Cells changed by the last markTile as long row * cols + col.
+    //  Only the first CHANGED_LIMIT cells of a larger move are
+    //  listed, see isChangedOverflow.
+    //-----------------------------------------------------------------
+    public long[] getChangedPositions() {
+        return Arrays.copyOf(this.changedCells, this.changedCount);
+    }
+
+    //-----------------------------------------------------------------
+    //  Returns true if the last markTile changed more than
+    //  CHANGED_LIMIT cells, so the changed cell lists are incomplete.
+    //-----------------------------------------------------------------
+    public boolean isChangedOverflow() {
+        return this.changedOverflow;
+    }
+
+    //-----------------------------------------------------------------
+    //  Sets a listener called with the row * cols + col of every cell
+    //  whose tile value changes, however large the move.  Null
+    //  removes it.
+    //-----------------------------------------------------------------
+    public void setChangeListener(LongConsumer listener) {
+        this.changeListener = listener;
+    }
+
+    //-----------------------------------------------------------------
+    //  Determines if row,col is a position on the board.
+    //-----------------------------------------------------------------
+    public boolean validIndex(int row, int col) {
+        return row >= 0 && row < this.rows && col >= 0 && col < this.cols;
+    }
+
+    //-----------------------------------------------------------------
+    //  Writes all changes through to the file.
+    //-----------------------------------------------------------------
+    public void flush() {
+        this.header.force();
+
+        for (MappedByteBuffer segment : this.segments) {
+            segment.force();
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Flushes and closes the board file.  The mapping itself is
+    //  released by the garbage collector.
+    //-----------------------------------------------------------------
+    public void close() throws IOException {
+        flush();
+        this.channel.close();
+    }
+
+    //-----------------------------------------------------------------
+    //  Places the mines, calculates the clues and writes the header.
+    //-----------------------------------------------------------------
+    private void generate(long mines, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        long cellTotal = (long) this.rows * this.cols;
+        byte mine = BoardCells.cell(Constants.MINE, Constants.CLOSED);
+
+        // Floyd's sampling, see minesweeper.placeMines.  the new
+        // file reads as zero everywhere, so no clearing is needed.
+        for (long j = cellTotal - mines; j < cellTotal; j++) {
+            long pick = random.nextLong(j + 1);
+
+            if (BoardCells.mine(cell(pick)) == Constants.MINE) {
+                pick = j;
+            }
+
+            setCell(pick, mine);
+        }
+
+        // clues only read the mines of neighbouring rows, which are
+        // all placed by now, so the stripes can run in parallel.
+        int stripes = (this.rows + STRIPE_ROWS - 1) / STRIPE_ROWS;
+
+        IntStream.range(0, stripes).parallel().forEach(stripe ->
+                calculateClues(stripe * STRIPE_ROWS, Math.min(this.rows, (stripe + 1) * STRIPE_ROWS)));
+
+        this.mineCount = mines;
+        this.unopenedSafeTiles = cellTotal - mines;
+        this.flagsPlaced = 0;
+        this.wrongFlags = 0;
+        this.status = GameStatus.PLAY;
+
+        this.header.putInt(0, MAGIC);
+        this.header.putInt(4, VERSION);
+        this.header.putInt(ROWS_AT, this.rows);
+        this.header.putInt(COLS_AT, this.cols);
+        this.header.putLong(SEED_AT, seed);
+        this.header.putLong(MINES_AT, mines);
+        writeCounters();
+    }
+
+    //-----------------------------------------------------------------
+    //  Writes clues and closed tiles for rows [fromRow, toRow).
+    //-----------------------------------------------------------------
+    private void calculateClues(int fromRow, int toRow) {
+        for (int row = fromRow; row < toRow; row++) {
+            for (int col = 0; col < this.cols; col++) {
+                long index = cellIndex(row, col);
+
+                if (BoardCells.mine(cell(index)) == Constants.MINE) {
+                    continue;
+                }
+
+                int clue = 0;
+
+                for (int y = -1; y <= 1; y++) {
+                    for (int x = -1; x <= 1; x++) {
+                        if ((y != 0 || x != 0) && validIndex(row + y, col + x)
+                                && BoardCells.mine(cell(index + (long) y * this.cols + x)) == Constants.MINE) {
+                            clue++;
+                        }
+                    }
+                }
+
+                setCell(index, BoardCells.cell(clue, Constants.CLOSED));
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Opens the blank area around an opened blank tile.  Blank cells
+    //  to expand go on a fixed-size ring buffer; once it is full they
+    //  are marked PENDING in the file instead, along with their row
+    //  window, and the marked windows are scanned back into the queue
+    //  when it empties.  A start below zero only drains the marks.
+    //-----------------------------------------------------------------
+    private void openBlankArea(long start) {
+        if (this.floodQueue == null) {
+            this.floodQueue = new long[FLOOD_QUEUE_SIZE];
+        }
+
+        long[] queue = this.floodQueue;
+        BitSet windows = this.pendingWindows;
+        int mask = FLOOD_QUEUE_SIZE - 1;
+        long head = 0;
+        long tail = 0;
+        // window being scanned, and the first cell of it that may
+        // still be marked.
+        int scanWindow = -1;
+        long scanFrom = 0;
+
+        if (start >= 0) {
+            queue[(int) (tail++ & mask)] = start;
+        }
+
+        while (true) {
+            while (head < tail) {
+                long index = queue[(int) (head++ & mask)];
+                int row = (int) (index / this.cols);
+                int col = (int) (index - (long) row * this.cols);
+
+                for (int y = -1; y <= 1; y++) {
+                    for (int x = -1; x <= 1; x++) {
+                        if ((y == 0 && x == 0) || !validIndex(row + y, col + x)) {
+                            continue;
+                        }
+
+                        long thisIndex = index + (long) y * this.cols + x;
+                        byte cell = cell(thisIndex);
+                        int tile = BoardCells.tile(cell);
+
+                        // opened tiles stay open, flagged tiles can not be opened.
+                        if (tile == Constants.OPENED || tile == Constants.FLAG) {
+                            continue;
+                        }
+
+                        setTile(thisIndex, Constants.OPENED);
+
+                        // only blank tiles keep the area growing.
+                        if (BoardCells.mine(cell) != Constants.OPENED) {
+                            continue;
+                        }
+
+                        if (tail - head < FLOOD_QUEUE_SIZE) {
+                            queue[(int) (tail++ & mask)] = thisIndex;
+                        } else {
+                            markPending(thisIndex);
+
+                            if (windowOf(thisIndex) == scanWindow) {
+                                scanFrom = Math.min(scanFrom, thisIndex);
+                            }
+                        }
+                    }
+                }
+            }
+
+            int window = windows.nextSetBit(0);
+
+            if (window < 0) {
+                this.header.putInt(PENDING_AT, 0);
+                return;
+            }
+
+            // refill the queue from the lowest marked window, carrying
+            // on where the last refill of it stopped.
+            if (window != scanWindow) {
+                scanWindow = window;
+                scanFrom = windowStart(window);
+            }
+
+            long end = windowStart(window + 1);
+            long index = scanFrom;
+
+            for (; index < end && tail - head < FLOOD_QUEUE_SIZE; index++) {
+                byte cell = cell(index);
+
+                if ((cell & PENDING) != 0) {
+                    setCell(index, (byte) (cell & ~PENDING));
+                    queue[(int) (tail++ & mask)] = index;
+                }
+            }
+
+            scanFrom = index;
+
+            if (index == end) {
+                windows.clear(window);
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Marks a blank cell for the flood to expand later.  The header
+    //  records that marks exist before the first one is written.
+    //-----------------------------------------------------------------
+    private void markPending(long index) {
+        if (this.pendingWindows.isEmpty()) {
+            this.header.putInt(PENDING_AT, 1);
+        }
+
+        this.pendingWindows.set(windowOf(index));
+        setCell(index, (byte) (cell(index) | PENDING));
+    }
+
+    //-----------------------------------------------------------------
+    //  Finishes a flood that was interrupted with cells still marked
+    //  pending.  The header counters predate that move, so they are
+    //  recounted from the cells afterwards.
+    //-----------------------------------------------------------------
+    private void finishFlood() {
+        this.pendingWindows.set(0, windowOf((long) this.rows * this.cols - 1) + 1);
+        openBlankArea(-1);
+
+        long unopened = 0, flags = 0, wrong = 0;
+
+        for (long index = 0, cellTotal = (long) this.rows * this.cols; index < cellTotal; index++) {
+            byte cell = cell(index);
+            boolean isMine = BoardCells.mine(cell) == Constants.MINE;
+            int tile = BoardCells.tile(cell);
+
+            if (tile == Constants.FLAG) {
+                flags++;
+                if (!isMine) {
+                    wrong++;
+                }
+            }
+
+            if (tile != Constants.OPENED && !isMine) {
+                unopened++;
+            }
+        }
+
+        this.unopenedSafeTiles = unopened;
+        this.flagsPlaced = flags;
+        this.wrongFlags = wrong;
+        this.changedCount = 0;
+
+        checkGameStatus();
+        writeCounters();
+    }
+
+    //-----------------------------------------------------------------
+    //  Pending window holding a cell.
+    //-----------------------------------------------------------------
+    private int windowOf(long index) {
+        return (int) (index / this.cols / this.windowRows);
+    }
+
+    //-----------------------------------------------------------------
+    //  First cell of a pending window, or the cell total past the
+    //  last window.
+    //-----------------------------------------------------------------
+    private long windowStart(int window) {
+        return Math.min((long) window * this.windowRows * this.cols, (long) this.rows * this.cols);
+    }
+
+    //-----------------------------------------------------------------
+    //  Sets the tile value of a cell, keeping the counters in step.
+    //-----------------------------------------------------------------
+    private void setTile(long index, int tile) {
+        byte cell = cell(index);
+        int currentTileValue = BoardCells.tile(cell);
+        boolean isMine = BoardCells.mine(cell) == Constants.MINE;
+
+        if (currentTileValue == Constants.FLAG) {
+            this.flagsPlaced--;
+            if (!isMine) {
+                this.wrongFlags--;
+            }
+        }
+
+        if (tile == Constants.FLAG) {
+            this.flagsPlaced++;
+            if (!isMine) {
+                this.wrongFlags++;
+            }
+        } else if (tile == Constants.OPENED && !isMine) {
+            this.unopenedSafeTiles--;
+        }
+
+        if (currentTileValue != tile) {
+            this.tileChanges++;
+
+            if (this.changedCount == CHANGED_LIMIT) {
+                this.changedOverflow = true;
+            } else {
+                if (this.changedCount == this.changedCells.length) {
+                    this.changedCells = Arrays.copyOf(this.changedCells, this.changedCount * 2);
+                }
+                this.changedCells[this.changedCount++] = index;
+            }
+
+            if (this.changeListener != null) {
+                this.changeListener.accept(index);
+            }
+        }
+
+        setCell(index, BoardCells.withTile(cell, tile));
+    }
+
+    //-----------------------------------------------------------------
+    //  Ends the game once no tile is closed or question-marked, see
+    //  minesweeper.checkGameStatus.
+    //-----------------------------------------------------------------
+    private void checkGameStatus() {
+        long coveredTiles = this.unopenedSafeTiles + this.mineCount - this.flagsPlaced;
+
+        if (this.status == GameStatus.PLAY && coveredTiles == 0) {
+            setStatus(this.wrongFlags == 0 ? GameStatus.WIN : GameStatus.LOSE);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Changes the game status and notifies the status listeners.
+    //-----------------------------------------------------------------
+    private void setStatus(GameStatus newStatus) {
+        GameStatus oldStatus = this.status;
+
+        if (oldStatus != newStatus) {
+            this.status = newStatus;
+
+            for (int i = 0; i < this.statusListeners.size(); i++) {
+                this.statusListeners.get(i).statusChanged(this, oldStatus, newStatus);
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Mirrors the status and counters into the header.
+    //-----------------------------------------------------------------
+    private void writeCounters() {
+        this.header.putLong(UNOPENED_AT, this.unopenedSafeTiles);
+        this.header.putLong(FLAGS_AT, this.flagsPlaced);
+        this.header.putLong(WRONG_FLAGS_AT, this.wrongFlags);
+        this.header.putInt(STATUS_AT, this.status.ordinal());
+    }
+
+    //-----------------------------------------------------------------
+    //  Cell index of row,col.
+    //-----------------------------------------------------------------
+    private long cellIndex(int row, int col) {
+        return (long) row * this.cols + col;
+    }
+
+    //-----------------------------------------------------------------
+    //  Packed cell at index.
+    //-----------------------------------------------------------------
+    private byte cell(long index) {
+        return this.segments[(int) (index >>> SEGMENT_SHIFT)].get((int) (index & SEGMENT_MASK));
+    }
+
+    //-----------------------------------------------------------------
+    //  Stores a packed cell at index.
+    //-----------------------------------------------------------------
+    private void setCell(long index, byte cell) {
+        this.segments[(int) (index >>> SEGMENT_SHIFT)].put((int) (index & SEGMENT_MASK), cell);
+    }
+}
@@ -0,0 +1,139 @@
+//********************************************************************
+//  MineBitboard.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  Mine layout held as one row of long words per board row, one bit
+//  per cell.  Clue values are computed 64 cells at a time by adding
+//  the shifted neighbour rows into bit-sliced counters.
+//********************************************************************
+
+public class MineBitboard {
+    // board dimensions.
+    private final int rows, cols;
+    // number of long words per board row.
+    private final int wordsPerRow;
+    // mine bits, row after row.  bit i of word w is column w * 64 + i.
+    private final long[] words;
+
+    //-----------------------------------------------------------------
+    //  Constructor.  Creates an empty bitboard of rows x cols.
+    //-----------------------------------------------------------------
+    public MineBitboard(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.wordsPerRow = (cols + 63) >>> 6;
+        this.words = new long[rows * this.wordsPerRow];
+    }
+
+    //-----------------------------------------------------------------
+    //  Returns true if the cell holds a mine.
+    //-----------------------------------------------------------------
+    public boolean isMine(int row, int col) {
+        return (this.words[row * this.wordsPerRow + (col >>> 6)] & (1L << col)) != 0;
+    }
+
+    //-----------------------------------------------------------------
+    //  Places a mine on the cell.
+    //-----------------------------------------------------------------
+    public void setMine(int row, int col) {
+        this.words[row * this.wordsPerRow + (col >>> 6)] |= 1L << col;
+    }
+
+    //-----------------------------------------------------------------
+    //  Writes packed cells for rows [fromRow, toRow): mine or clue
+    //  value plus the given tile value.  Cell row,col is written at
+    //  first + row * stride + col.
+    //-----------------------------------------------------------------
+    public void writeCells(byte[] cells, int first, int stride, int fromRow, int toRow, int tile) {
+        for (int row = fromRow; row < toRow; row++) {
+            int base = row * this.wordsPerRow;
+            boolean hasAbove = row > 0;
+            boolean hasBelow = row < this.rows - 1;
+            int above = base - this.wordsPerRow;
+            int below = base + this.wordsPerRow;
+
+            for (int w = 0; w < this.wordsPerRow; w++) {
+                // the eight neighbour bits of every column in this word.
+                long nw = hasAbove ? shiftedLeft(above, w) : 0;
+                long n = hasAbove ? this.words[above + w] : 0;
+                long ne = hasAbove ? shiftedRight(above, w) : 0;
+                long west = shiftedLeft(base, w);
+                long east = shiftedRight(base, w);
+                long sw = hasBelow ? shiftedLeft(below, w) : 0;
+                long s = hasBelow ? this.words[below + w] : 0;
+                long se = hasBelow ? shiftedRight(below, w) : 0;
+
+                // carry-save adders reduce the eight one-bit inputs to
+                // bit planes b0..b3 of the neighbour count.
+                long ones1 = nw ^ n ^ ne;
+                long twos1 = (nw & n) | (ne & (nw ^ n));
+                long ones2 = west ^ east ^ sw;
+                long twos2 = (west & east) | (sw & (west ^ east));
+                long ones3 = s ^ se;
+                long twos3 = s & se;
+
+                long b0 = ones1 ^ ones2 ^ ones3;
+                long twos4 = (ones1 & ones2) | (ones3 & (ones1 ^ ones2));
+
+                long twosSum = twos1 ^ twos2 ^ twos3;
+                long fours1 = (twos1 & twos2) | (twos3 & (twos1 ^ twos2));
+                long b1 = twosSum ^ twos4;
+                long fours2 = twosSum & twos4;
+
+                long b2 = fours1 ^ fours2;
+                long b3 = fours1 & fours2;
+
+                long mines = this.words[base + w];
+                int firstCol = w << 6;
+                int lastCol = Math.min(firstCol + 64, this.cols);
+                int index = first + row * stride + firstCol;
+
+                for (int col = firstCol; col < lastCol; col++, index++) {
+                    int bit = col & 63;
+                    int mine;
+
+                    if (((mines >>> bit) & 1) != 0) {
+                        mine = Constants.MINE;
+                    } else {
+                        mine = (int) ((b0 >>> bit) & 1)
+                                | (int) ((b1 >>> bit) & 1) << 1
+                                | (int) ((b2 >>> bit) & 1) << 2
+                                | (int) ((b3 >>> bit) & 1) << 3;
+                    }
+
+                    cells[index] = BoardCells.cell(mine, tile);
+                }
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Word w of the row starting at base, with each bit holding the
+    //  mine bit of the column to its left (col - 1).
+    //-----------------------------------------------------------------
+    private long shiftedLeft(int base, int w) {
+        long word = this.words[base + w] << 1;
+
+        if (w > 0) {
+            word |= this.words[base + w - 1] >>> 63;
+        }
+
+        return word;
+    }
+
+    //-----------------------------------------------------------------
+    //  Word w of the row starting at base, with each bit holding the
+    //  mine bit of the column to its right (col + 1).
+    //-----------------------------------------------------------------
+    private long shiftedRight(int base, int w) {
+        long word = this.words[base + w] >>> 1;
+
+        if (w < this.wordsPerRow - 1) {
+            word |= this.words[base + w + 1] << 63;
+        }
+
+        return word;
+    }
+}
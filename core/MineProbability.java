@@ -0,0 +1,942 @@
+//********************************************************************
+//  MineProbability.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  Mine probability of every closed tile, given the clues of the
+//  opened tiles and the total number of mines.  Closed tiles next to
+//  a clue form the frontier, which is split into components that
+//  share no clue.  The mine layouts of each component are counted
+//  by mine total, components are enumerated in parallel on the
+//  fork/join pool, and the counts are combined with the number of
+//  ways the remaining mines fit in the closed tiles away from the
+//  frontier.  A component that can not be enumerated within the
+//  time budget is sampled instead, by a Markov chain whose steps
+//  redraw a small connected block of variables uniformly from the
+//  values that fit the rest of the layout.  In the long run every
+//  layout that meets the clues is visited equally often, but a
+//  chain cut short by the budget need not have mixed, so sampled
+//  probabilities are estimates and isExact returns false.  Cells
+//  are row * cols + col indexes.
+//********************************************************************
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class MineProbability {
+    // mine layouts counted for a component that is sampled, one per
+    // step of the chain.  the chain first runs one step per variable
+    // without counting, to move away from its starting layout.
+    private static final int SAMPLE_COUNT = 2000;
+    // layouts counted even once the budget has run out, so that a
+    // component sampled after another used up the budget still gets
+    // an estimate rather than a single layout.
+    private static final int MIN_SAMPLE_COUNT = 200;
+    // most variables redrawn by one step of the chain, and by every
+    // LARGE_BLOCK_INTERVAL-th step, which can flip longer chains of
+    // alternating tiles.
+    private static final int BLOCK_SIZE = 12;
+    private static final int LARGE_BLOCK_SIZE = 20;
+    private static final int LARGE_BLOCK_INTERVAL = 8;
+    // random depth first searches tried for a starting layout.
+    private static final int START_ATTEMPTS = 64;
+    // larger components are sampled without trying to enumerate
+    // them, and their probabilities ignore the mine total.
+    private static final int MAX_ENUMERATED_VARIABLES = 256;
+    // enumeration nodes between checks of the deadline.
+    private static final int CHECK_INTERVAL = 1 << 12;
+
+    // board dimensions.
+    private final int rows, cols;
+    // mine probability of each cell, -1 for opened cells.
+    private final double[] probabilities;
+    // false if any component was sampled.
+    private final boolean exact;
+
+    //-----------------------------------------------------------------
+    //  Constructor.  Use compute.
+    //-----------------------------------------------------------------
+    private MineProbability(int rows, int cols, double[] probabilities, boolean exact) {
+        this.rows = rows;
+        this.cols = cols;
+        this.probabilities = probabilities;
+        this.exact = exact;
+    }
+
+    //-----------------------------------------------------------------
+    //  Computes the mine probabilities of a game with totalMines
+    //  mines.  Enumeration stops after budgetNanos, and sampling of
+    //  the components left over gets one more budgetNanos.
+    //-----------------------------------------------------------------
+    public static MineProbability compute(GameData game, int totalMines, long budgetNanos) {
+        int rows = game.getRows();
+        int cols = game.getCols();
+
+        if ((long) rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("board too large for the probability engine");
+        }
+
+        int cellTotal = rows * cols;
+        long deadline = System.nanoTime() + budgetNanos;
+
+        // clue of each opened cell, -1 for closed cells.
+        byte[] clues = new byte[cellTotal];
+        int closed = 0;
+
+        for (int row = 0, index = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++, index++) {
+                if (game.getTiles(row, col) == Constants.OPENED) {
+                    clues[index] = (byte) game.getMines(row, col);
+                } else {
+                    clues[index] = -1;
+                    closed++;
+                }
+            }
+        }
+
+        // number closed frontier cells and join those sharing a clue.
+        int[] variableOf = new int[cellTotal];
+        Arrays.fill(variableOf, -1);
+        int[] cellOf = new int[closed];
+        int frontier = 0;
+
+        for (int index = 0; index < cellTotal; index++) {
+            if (clues[index] >= 0 && clues[index] != Constants.MINE) {
+                for (int neighbour : neighbours(index, rows, cols)) {
+                    if (clues[neighbour] < 0 && variableOf[neighbour] < 0) {
+                        cellOf[frontier] = neighbour;
+                        variableOf[neighbour] = frontier++;
+                    }
+                }
+            }
+        }
+
+        int[] parent = new int[frontier];
+
+        for (int v = 0; v < frontier; v++) {
+            parent[v] = v;
+        }
+
+        List<int[]> constraints = new ArrayList<>();
+
+        for (int index = 0; index < cellTotal; index++) {
+            if (clues[index] < 0 || clues[index] == Constants.MINE) {
+                continue;
+            }
+
+            // constraint: clue value, then the frontier variables.
+            int[] constraint = new int[9];
+            int size = 1;
+            constraint[0] = clues[index];
+
+            for (int neighbour : neighbours(index, rows, cols)) {
+                if (variableOf[neighbour] >= 0) {
+                    constraint[size++] = variableOf[neighbour];
+                }
+            }
+
+            if (size > 1) {
+                constraints.add(Arrays.copyOf(constraint, size));
+
+                for (int i = 2; i < size; i++) {
+                    parent[find(parent, constraint[i])] = find(parent, constraint[1]);
+                }
+            }
+        }
+
+        // gather the variables and constraints of each component.
+        int[] componentOf = new int[frontier];
+        Arrays.fill(componentOf, -1);
+        List<List<Integer>> componentVariables = new ArrayList<>();
+        List<List<int[]>> componentConstraints = new ArrayList<>();
+
+        for (int v = 0; v < frontier; v++) {
+            int root = find(parent, v);
+
+            if (componentOf[root] < 0) {
+                componentOf[root] = componentVariables.size();
+                componentVariables.add(new ArrayList<>());
+                componentConstraints.add(new ArrayList<>());
+            }
+
+            componentOf[v] = componentOf[root];
+            componentVariables.get(componentOf[v]).add(v);
+        }
+
+        for (int[] constraint : constraints) {
+            componentConstraints.get(componentOf[constraint[1]]).add(constraint);
+        }
+
+        double density = closed == 0 ? 0 : Math.min(1.0, (double) totalMines / closed);
+        Component[] components = new Component[componentVariables.size()];
+        // position of each variable within its component.
+        int[] localIndex = new int[frontier];
+
+        for (int c = 0; c < components.length; c++) {
+            components[c] = new Component(componentVariables.get(c), componentConstraints.get(c),
+                    cellOf, localIndex, deadline, deadline + budgetNanos, density);
+        }
+
+        if (components.length > 0) {
+            ForkJoinPool.commonPool().invoke(new ComponentTask(components, 0, components.length));
+        }
+
+        double[] probabilities = new double[cellTotal];
+        boolean exact = combine(components, clues, variableOf, closed - frontier, totalMines, probabilities);
+
+        return new MineProbability(rows, cols, probabilities, exact);
+    }
+
+    //-----------------------------------------------------------------
+    //  Mine probability of row,col, -1 if opened or not on the board.
+    //-----------------------------------------------------------------
+    public double getProbability(int row, int col) {
+        if (row < 0 || row >= this.rows || col < 0 || col >= this.cols) {
+            return -1;
+        }
+
+        return this.probabilities[row * this.cols + col];
+    }
+
+    //-----------------------------------------------------------------
+    //  Closed cell least likely to hold a mine, -1 if none is closed.
+    //-----------------------------------------------------------------
+    public int getSafestCell() {
+        int best = -1;
+
+        for (int index = 0; index < this.probabilities.length; index++) {
+            double probability = this.probabilities[index];
+
+            if (probability >= 0 && (best < 0 || probability < this.probabilities[best])) {
+                best = index;
+            }
+        }
+
+        return best;
+    }
+
+    //-----------------------------------------------------------------
+    //  Returns true if every component was enumerated in full.  If
+    //  false, the probabilities of the sampled components are
+    //  estimates.
+    //-----------------------------------------------------------------
+    public boolean isExact() {
+        return this.exact;
+    }
+
+    //-----------------------------------------------------------------
+    //  Combines the component counts with the ways of placing the
+    //  other mines away from the frontier.  Fills probabilities and
+    //  returns true if every component was exact.
+    //
+    //  prefix[c] is the mine total distribution of components before
+    //  c, and after[c] the weight of the layouts of components c and
+    //  later plus the interior, given K mines before c.  Both are
+    //  kept only over the mine totals that carry any weight.
+    //-----------------------------------------------------------------
+    private static boolean combine(Component[] components, byte[] clues, int[] variableOf,
+                                   int interior, int totalMines, double[] probabilities) {
+        int count = components.length;
+        Distribution[] prefix = new Distribution[count + 1];
+        prefix[0] = new Distribution(0, new double[]{1});
+
+        for (int c = 0; c < count; c++) {
+            prefix[c + 1] = prefix[c].convolve(components[c].weights);
+        }
+
+        Distribution frontierMines = prefix[count];
+        int maxFrontier = frontierMines.offset + frontierMines.values.length - 1;
+        double[] ways = interiorWays(interior, totalMines, maxFrontier);
+
+        if (frontierMines.weightedSum(ways, 0) == 0) {
+            // the clues do not fit the mine total, ignore the total.
+            Arrays.fill(ways, 1);
+        }
+
+        Distribution[] after = new Distribution[count + 1];
+        after[count] = new Distribution(0, ways);
+
+        for (int c = count - 1; c > 0; c--) {
+            // the mine totals component c - 1 can look up.
+            int low = prefix[c - 1].offset;
+            int high = low + prefix[c - 1].values.length + components[c - 1].weights.length - 2;
+
+            after[c] = after[c + 1].correlate(components[c].weights, low, high);
+        }
+
+        boolean exact = true;
+
+        for (int c = 0; c < count; c++) {
+            Component component = components[c];
+            int size = component.weights.length;
+
+            // weight of everything outside this component, given it
+            // holds k mines.
+            double[] outside = new double[size];
+            double total = 0;
+
+            for (int k = 0; k < size; k++) {
+                outside[k] = prefix[c].weightedSum(after[c + 1], k);
+                total += component.weights[k] * outside[k];
+            }
+
+            double layouts = component.layouts();
+
+            for (int v = 0; v < component.cells.length; v++) {
+                double mines = 0;
+
+                if (component.collapsed) {
+                    mines = component.mineWeights[v] * total / layouts;
+                } else {
+                    for (int k = 0; k < size; k++) {
+                        mines += component.mineWeights[v * size + k] * outside[k];
+                    }
+                }
+
+                probabilities[component.cells[v]] = total == 0 ? 0 : mines / total;
+            }
+
+            exact &= component.exact;
+        }
+
+        // probability for closed cells away from the frontier.
+        double interiorProbability = 0;
+
+        if (interior > 0) {
+            double mines = 0;
+            double total = 0;
+
+            for (int i = 0; i < frontierMines.values.length; i++) {
+                int k = frontierMines.offset + i;
+                double weight = frontierMines.values[i] * ways[k];
+                mines += weight * Math.max(0, totalMines - k);
+                total += weight;
+            }
+
+            interiorProbability = total == 0 ? 0 : Math.min(1.0, mines / total / interior);
+        }
+
+        for (int index = 0; index < probabilities.length; index++) {
+            if (clues[index] >= 0) {
+                probabilities[index] = -1;
+            } else if (variableOf[index] < 0) {
+                probabilities[index] = interiorProbability;
+            }
+        }
+
+        return exact;
+    }
+
+    //-----------------------------------------------------------------
+    //  Number of ways, relative to the largest, of placing the mines
+    //  not on the frontier in the interior, for 0 ... maxFrontier
+    //  frontier mines: C(interior, totalMines - k).
+    //-----------------------------------------------------------------
+    private static double[] interiorWays(int interior, int totalMines, int maxFrontier) {
+        double[] logWays = new double[maxFrontier + 1];
+        double[] ways = new double[maxFrontier + 1];
+        int first = Math.max(0, totalMines - interior);
+        double largest = Double.NEGATIVE_INFINITY;
+
+        Arrays.fill(logWays, Double.NEGATIVE_INFINITY);
+
+        for (int k = first; k <= maxFrontier && k <= totalMines; k++) {
+            int m = totalMines - k;
+
+            // C(n, m) = C(n, m + 1) * (m + 1) / (n - m)
+            logWays[k] = k == first ? 0 : logWays[k - 1] + Math.log((m + 1.0) / (interior - m));
+            largest = Math.max(largest, logWays[k]);
+        }
+
+        for (int k = 0; k <= maxFrontier; k++) {
+            ways[k] = logWays[k] == Double.NEGATIVE_INFINITY ? 0 : Math.exp(logWays[k] - largest);
+        }
+
+        return ways;
+    }
+
+    //-----------------------------------------------------------------
+    //  Cells next to index.
+    //-----------------------------------------------------------------
+    private static int[] neighbours(int index, int rows, int cols) {
+        int row = index / cols;
+        int col = index - row * cols;
+        int[] result = new int[8];
+        int count = 0;
+
+        for (int y = -1; y <= 1; y++) {
+            for (int x = -1; x <= 1; x++) {
+                if ((y != 0 || x != 0) && row + y >= 0 && row + y < rows && col + x >= 0 && col + x < cols) {
+                    result[count++] = index + y * cols + x;
+                }
+            }
+        }
+
+        return Arrays.copyOf(result, count);
+    }
+
+    //-----------------------------------------------------------------
+    //  Union-find root, halving the path on the way.
+    //-----------------------------------------------------------------
+    private static int find(int[] parent, int v) {
+        while (parent[v] != v) {
+            parent[v] = parent[parent[v]];
+            v = parent[v];
+        }
+
+        return v;
+    }
+
+    //-----------------------------------------------------------------
+    //  One frontier component.  Counts its mine layouts by the number
+    //  of mines they hold, and for each variable the layouts in which
+    //  it holds a mine.
+    //-----------------------------------------------------------------
+    private static class Component {
+        // board cell of each variable, in enumeration order.
+        final int[] cells;
+        // layouts with k mines, index k.
+        final double[] weights;
+        // layouts with k mines where variable v is a mine,
+        // index v * weights.length + k, or index v if collapsed.
+        final double[] mineWeights;
+        // true if mineWeights does not keep the mine totals apart.
+        final boolean collapsed;
+        // false if the layouts were sampled.
+        boolean exact = true;
+
+        // constraints of each variable, and variables of each
+        // constraint.
+        private final int[][] variableConstraints, constraintVariables;
+        // clue value of each constraint.
+        private final int[] target;
+        // mines and unassigned variables of each constraint so far.
+        private final int[] placed, unassigned;
+        // current value of each variable.
+        private final int[] value;
+        // enumeration and sampling deadlines, System.nanoTime.
+        private final long deadline, sampleDeadline;
+        // mine density used if no layout can be sampled.
+        private final double density;
+        // values tried so far and value tried first, per variable.
+        private final int[] tried, first;
+        // variables of the block being redrawn, and the step that
+        // last put each variable in a block.
+        private final int[] block, blockStep;
+        // layouts of the block that fit, and the one picked so far.
+        private int blockLayouts, blockPick;
+
+        Component(List<Integer> variables, List<int[]> constraints, int[] cellOf,
+                  int[] local, long deadline, long sampleDeadline, double density) {
+            int size = variables.size();
+            this.deadline = deadline;
+            this.sampleDeadline = sampleDeadline;
+            this.density = density;
+
+            // order the variables breadth first through the
+            // constraints, so constraints are closed early.
+            int[] order = breadthFirst(variables, constraints);
+
+            this.cells = new int[size];
+            for (int i = 0; i < size; i++) {
+                local[order[i]] = i;
+                this.cells[i] = cellOf[order[i]];
+            }
+
+            this.target = new int[constraints.size()];
+            this.placed = new int[constraints.size()];
+            this.unassigned = new int[constraints.size()];
+            int[] constraintCount = new int[size];
+
+            for (int c = 0; c < constraints.size(); c++) {
+                int[] constraint = constraints.get(c);
+                this.target[c] = constraint[0];
+                this.unassigned[c] = constraint.length - 1;
+
+                for (int i = 1; i < constraint.length; i++) {
+                    constraintCount[local[constraint[i]]]++;
+                }
+            }
+
+            this.variableConstraints = new int[size][];
+            for (int v = 0; v < size; v++) {
+                this.variableConstraints[v] = new int[constraintCount[v]];
+                constraintCount[v] = 0;
+            }
+
+            this.constraintVariables = new int[constraints.size()][];
+
+            for (int c = 0; c < constraints.size(); c++) {
+                int[] constraint = constraints.get(c);
+                this.constraintVariables[c] = new int[constraint.length - 1];
+
+                for (int i = 1; i < constraint.length; i++) {
+                    int v = local[constraint[i]];
+                    this.variableConstraints[v][constraintCount[v]++] = c;
+                    this.constraintVariables[c][i - 1] = v;
+                }
+            }
+
+            this.value = new int[size];
+            this.tried = new int[size];
+            this.first = new int[size];
+            this.block = new int[Math.min(size, LARGE_BLOCK_SIZE)];
+            this.blockStep = new int[size];
+            Arrays.fill(this.blockStep, -1);
+            this.weights = new double[size + 1];
+            this.collapsed = size > MAX_ENUMERATED_VARIABLES;
+            this.mineWeights = new double[this.collapsed ? size : size * (size + 1)];
+        }
+
+        //-------------------------------------------------------------
+        //  Enumerates the layouts, or samples them once the deadline
+        //  has passed.
+        //-------------------------------------------------------------
+        void solve() {
+            if (this.collapsed || !search(null, Long.MAX_VALUE)) {
+                this.exact = false;
+                sample();
+            }
+        }
+
+        //-------------------------------------------------------------
+        //  Counts the layouts visited by the chain, starting from a
+        //  layout found by a random depth first search.
+        //-------------------------------------------------------------
+        private void sample() {
+            Arrays.fill(this.weights, 0);
+            Arrays.fill(this.mineWeights, 0);
+
+            SplittableRandom random = new SplittableRandom(this.cells[0]);
+            long nodeLimit = 64L * this.cells.length + 1024;
+            boolean started = false;
+
+            for (int attempt = 0; attempt < START_ATTEMPTS && !started; attempt++) {
+                if (attempt > 0 && System.nanoTime() > this.sampleDeadline) {
+                    break;
+                }
+
+                started = search(random, nodeLimit);
+            }
+
+            if (!started) {
+                // nothing fits within the limits, fall back to the density.
+                int mines = (int) Math.round(this.cells.length * this.density);
+                this.weights[mines] = 1;
+
+                for (int v = 0; v < this.cells.length; v++) {
+                    this.mineWeights[this.collapsed ? v : v * this.weights.length + mines] = this.density;
+                }
+
+                return;
+            }
+
+            int mines = 0;
+
+            for (int v = 0; v < this.cells.length; v++) {
+                mines += this.value[v];
+            }
+
+            int burnIn = this.cells.length;
+
+            for (int step = 0; step < burnIn + SAMPLE_COUNT; step++) {
+                if (step >= burnIn + MIN_SAMPLE_COUNT && System.nanoTime() > this.sampleDeadline) {
+                    break;
+                }
+
+                mines = redraw(step, random, mines);
+
+                if (step >= burnIn) {
+                    record(mines);
+                }
+            }
+
+            unwind(this.cells.length);
+        }
+
+        //-------------------------------------------------------------
+        //  One step of the chain: picks up to BLOCK_SIZE variables, or
+        //  LARGE_BLOCK_SIZE on every LARGE_BLOCK_INTERVAL-th step,
+        //  linked by constraints, starting at a random one, and gives
+        //  them a layout picked uniformly from those that fit the
+        //  values of the other variables.  The current layout always
+        //  fits, so there is one to pick.  Returns the new number of
+        //  mines.
+        //-------------------------------------------------------------
+        private int redraw(int step, SplittableRandom random, int mines) {
+            int[] block = this.block;
+            int limit = Math.min(block.length,
+                    step % LARGE_BLOCK_INTERVAL == 0 ? LARGE_BLOCK_SIZE : BLOCK_SIZE);
+            int count = 0;
+            int next = 0;
+
+            block[count++] = random.nextInt(this.cells.length);
+            this.blockStep[block[0]] = step;
+
+            // breadth first through the constraints.
+            while (next < count && count < limit) {
+                for (int c : this.variableConstraints[block[next]]) {
+                    for (int u : this.constraintVariables[c]) {
+                        if (count < limit && this.blockStep[u] != step) {
+                            this.blockStep[u] = step;
+                            block[count++] = u;
+                        }
+                    }
+                }
+                next++;
+            }
+
+            for (int i = 0; i < count; i++) {
+                unassign(block[i]);
+                mines -= this.value[block[i]];
+            }
+
+            this.blockLayouts = 0;
+            pickBlockLayout(count, 0, 0, random);
+
+            for (int i = 0; i < count; i++) {
+                int mine = (this.blockPick >>> i) & 1;
+                assign(block[i], mine);
+                mines += mine;
+            }
+
+            return mines;
+        }
+
+        //-------------------------------------------------------------
+        //  Goes through the layouts of block variables [i, count) that
+        //  fit, keeping each in blockPick with chance 1 / layouts seen,
+        //  so the one kept is uniform.  mask holds the values of the
+        //  block variables before i.
+        //-------------------------------------------------------------
+        private void pickBlockLayout(int count, int i, int mask, SplittableRandom random) {
+            if (i == count) {
+                if (random.nextInt(++this.blockLayouts) == 0) {
+                    this.blockPick = mask;
+                }
+                return;
+            }
+
+            int v = this.block[i];
+
+            for (int mine = 0; mine <= 1; mine++) {
+                if (assign(v, mine)) {
+                    pickBlockLayout(count, i + 1, mask | mine << i, random);
+                }
+                unassign(v);
+            }
+        }
+
+        //-------------------------------------------------------------
+        //  Depth first search over the variable values, iterative so
+        //  large components do not overflow the stack.  With no random
+        //  generator every layout is recorded and false is returned if
+        //  the deadline passes first.  With one, values are tried in
+        //  random order and true is returned once a layout is found,
+        //  which is left assigned, false if nodeLimit nodes find none.
+        //-------------------------------------------------------------
+        private boolean search(SplittableRandom random, long nodeLimit) {
+            int size = this.cells.length;
+            int[] tried = this.tried;
+            int[] first = this.first;
+            int v = 0;
+            int mines = 0;
+            long nodes = 0;
+
+            tried[0] = 0;
+            first[0] = random == null ? 0 : random.nextInt(2);
+
+            while (v >= 0) {
+                if (v == size) {
+                    if (random != null) {
+                        return true;
+                    }
+
+                    record(mines);
+                    v--;
+                    continue;
+                }
+
+                // take back the value tried last.
+                if (tried[v] > 0) {
+                    unassign(v);
+                    mines -= this.value[v];
+                }
+
+                if (tried[v] == 2) {
+                    v--;
+                    continue;
+                }
+
+                nodes++;
+
+                if (random == null
+                        ? nodes % CHECK_INTERVAL == 0 && System.nanoTime() > this.deadline
+                        : nodes > nodeLimit) {
+                    unwind(v);
+                    return false;
+                }
+
+                int mine = first[v] ^ tried[v];
+                tried[v]++;
+                mines += mine;
+
+                if (assign(v, mine) && ++v < size) {
+                    tried[v] = 0;
+                    first[v] = random == null ? 0 : random.nextInt(2);
+                }
+            }
+
+            return random == null;
+        }
+
+        //-------------------------------------------------------------
+        //  Takes back the values of variables [0, count).
+        //-------------------------------------------------------------
+        private void unwind(int count) {
+            for (int v = count - 1; v >= 0; v--) {
+                unassign(v);
+            }
+        }
+
+        //-------------------------------------------------------------
+        //  Gives variable v a value.  Returns false if a constraint
+        //  can no longer be met; unassign must be called either way.
+        //-------------------------------------------------------------
+        private boolean assign(int v, int mine) {
+            boolean possible = true;
+            this.value[v] = mine;
+
+            for (int c : this.variableConstraints[v]) {
+                this.unassigned[c]--;
+                this.placed[c] += mine;
+                possible &= this.placed[c] <= this.target[c]
+                        && this.placed[c] + this.unassigned[c] >= this.target[c];
+            }
+
+            return possible;
+        }
+
+        //-------------------------------------------------------------
+        //  Takes back the value of variable v.
+        //-------------------------------------------------------------
+        private void unassign(int v) {
+            for (int c : this.variableConstraints[v]) {
+                this.unassigned[c]++;
+                this.placed[c] -= this.value[v];
+            }
+        }
+
+        //-------------------------------------------------------------
+        //  Counts the current layout, which holds mines mines.
+        //-------------------------------------------------------------
+        private void record(int mines) {
+            int stride = this.weights.length;
+            this.weights[mines]++;
+
+            for (int v = 0; v < this.cells.length; v++) {
+                if (this.value[v] != 0) {
+                    this.mineWeights[this.collapsed ? v : v * stride + mines]++;
+                }
+            }
+        }
+
+        //-------------------------------------------------------------
+        //  Number of layouts counted.
+        //-------------------------------------------------------------
+        double layouts() {
+            double sum = 0;
+
+            for (double weight : this.weights) {
+                sum += weight;
+            }
+
+            return sum;
+        }
+
+        //-------------------------------------------------------------
+        //  Variables in breadth first order through the constraints.
+        //-------------------------------------------------------------
+        private static int[] breadthFirst(List<Integer> variables, List<int[]> constraints) {
+            // constraints touching each variable.
+            Map<Integer, List<int[]>> touching = new HashMap<>();
+
+            for (int[] constraint : constraints) {
+                for (int i = 1; i < constraint.length; i++) {
+                    touching.computeIfAbsent(constraint[i], k -> new ArrayList<>()).add(constraint);
+                }
+            }
+
+            int[] order = new int[variables.size()];
+            Set<Integer> seen = new HashSet<>();
+            int head = 0;
+            int tail = 0;
+
+            order[tail++] = variables.get(0);
+            seen.add(variables.get(0));
+
+            while (head < tail) {
+                int v = order[head++];
+
+                for (int[] constraint : touching.getOrDefault(v, List.of())) {
+                    for (int i = 1; i < constraint.length; i++) {
+                        if (seen.add(constraint[i])) {
+                            order[tail++] = constraint[i];
+                        }
+                    }
+                }
+            }
+
+            return order;
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Weights indexed by mine total, stored from offset on.  Weights
+    //  below NEGLIGIBLE of the largest are dropped and the rest are
+    //  scaled to a largest weight of 1, so long chains of components
+    //  neither overflow nor grow wider than their real spread.
+    //-----------------------------------------------------------------
+    private static class Distribution {
+        private static final double NEGLIGIBLE = 1e-30;
+
+        // mine total of values[0].
+        final int offset;
+        // weight of each mine total from offset on.
+        final double[] values;
+
+        Distribution(int offset, double[] values) {
+            this.offset = offset;
+            this.values = values;
+        }
+
+        //-------------------------------------------------------------
+        //  Distribution of the sum of this and a component's mines.
+        //-------------------------------------------------------------
+        Distribution convolve(double[] weights) {
+            double[] result = new double[this.values.length + weights.length - 1];
+
+            for (int i = 0; i < this.values.length; i++) {
+                for (int k = 0; k < weights.length; k++) {
+                    result[i + k] += this.values[i] * weights[k];
+                }
+            }
+
+            return trimmed(this.offset, result);
+        }
+
+        //-------------------------------------------------------------
+        //  Sum over k of weights[k] * this[K + k], for mine totals K
+        //  from low to high.
+        //-------------------------------------------------------------
+        Distribution correlate(double[] weights, int low, int high) {
+            double[] result = new double[high - low + 1];
+
+            for (int i = 0; i < result.length; i++) {
+                for (int k = 0; k < weights.length; k++) {
+                    result[i] += weights[k] * get(low + i + k);
+                }
+            }
+
+            return trimmed(low, result);
+        }
+
+        //-------------------------------------------------------------
+        //  Sum of this[K] * other[K + shift].
+        //-------------------------------------------------------------
+        double weightedSum(Distribution other, int shift) {
+            double sum = 0;
+
+            for (int i = 0; i < this.values.length; i++) {
+                sum += this.values[i] * other.get(this.offset + i + shift);
+            }
+
+            return sum;
+        }
+
+        //-------------------------------------------------------------
+        //  Sum of this[K] * weights[K + shift].
+        //-------------------------------------------------------------
+        double weightedSum(double[] weights, int shift) {
+            return weightedSum(new Distribution(0, weights), shift);
+        }
+
+        //-------------------------------------------------------------
+        //  Weight of mine total K, 0 outside the stored range.
+        //-------------------------------------------------------------
+        double get(int k) {
+            int i = k - this.offset;
+            return i >= 0 && i < this.values.length ? this.values[i] : 0;
+        }
+
+        //-------------------------------------------------------------
+        //  Scales values to a largest weight of 1 and drops the
+        //  negligible weights at both ends.
+        //-------------------------------------------------------------
+        private static Distribution trimmed(int offset, double[] values) {
+            double largest = 0;
+
+            for (double value : values) {
+                largest = Math.max(largest, value);
+            }
+
+            if (largest == 0) {
+                return new Distribution(offset, new double[]{0});
+            }
+
+            int first = 0;
+            int last = values.length - 1;
+
+            while (values[first] < largest * NEGLIGIBLE) {
+                first++;
+            }
+            while (values[last] < largest * NEGLIGIBLE) {
+                last--;
+            }
+
+            double[] result = new double[last - first + 1];
+
+            for (int i = 0; i < result.length; i++) {
+                result[i] = values[first + i] / largest;
+            }
+
+            return new Distribution(offset + first, result);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Solves components [from, to) on the fork/join pool.
+    //-----------------------------------------------------------------
+    private static class ComponentTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Component[] components;
+        private final int from, to;
+
+        ComponentTask(Component[] components, int from, int to) {
+            this.components = components;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from == 1) {
+                this.components[this.from].solve();
+            } else {
+                int mid = (this.from + this.to) >>> 1;
+                invokeAll(new ComponentTask(this.components, this.from, mid),
+                        new ComponentTask(this.components, mid, this.to));
+            }
+        }
+    }
+}
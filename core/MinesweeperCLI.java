@@ -0,0 +1,247 @@
+//********************************************************************
+//  MinesweeperCLI.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  Text driver for the minesweeper engine.  Needs nothing beyond the
+//  core classes, so it runs where JavaFX is not installed.
+//
+//  usage: java MinesweeperCLI play <board> [seed]
+//         java MinesweeperCLI generate <board> seed file
+//         java MinesweeperCLI dump file
+//
+//  <board> is a level name (beginner, intermediate, expert) or
+//  rows cols mines.  generate saves a GameSnapshot, dump prints one.
+//
+//  play reads one move per line from standard input:
+//      o row col   open          f row col   flag
+//      ? row col   question      c row col   close
+//      q           quit
+//********************************************************************
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class MinesweeperCLI {
+    private static final String USAGE = "usage: java MinesweeperCLI play <board> [seed]" + Constants.LINEFEED
+            + "       java MinesweeperCLI generate <board> seed file" + Constants.LINEFEED
+            + "       java MinesweeperCLI dump file" + Constants.LINEFEED
+            + "<board> is beginner, intermediate, expert or rows cols mines";
+
+    // standard output, flushed after every board.
+    private final PrintWriter out = new PrintWriter(System.out);
+
+    //-----------------------------------------------------------------
+    //  Runs the command named by the first argument.
+    //-----------------------------------------------------------------
+    public static void main(String[] args) throws IOException {
+        MinesweeperCLI cli = new MinesweeperCLI();
+
+        try {
+            if (args.length > 0 && args[0].equals("play")) {
+                cli.play(args);
+            } else if (args.length > 0 && args[0].equals("generate")) {
+                cli.generate(args);
+            } else if (args.length == 2 && args[0].equals("dump")) {
+                cli.dump(Path.of(args[1]));
+            } else {
+                System.err.println(USAGE);
+                System.exit(2);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Plays a game with moves read from standard input.
+    //-----------------------------------------------------------------
+    private void play(String[] args) throws IOException {
+        int next = boardArgCount(args, 1);
+        long seed = args.length > 1 + next ? parseLong(args[1 + next]) : ThreadLocalRandom.current().nextLong();
+        minesweeper game = newGame(args, 1, seed);
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in));
+
+        printBoard(game);
+
+        while (game.getGameStatus() == GameStatus.PLAY) {
+            this.out.print("> ");
+            this.out.flush();
+
+            String line = in.readLine();
+
+            if (line == null || line.trim().equals("q")) {
+                break;
+            }
+
+            String[] move = line.trim().split("\\s+");
+            int tile = move.length == 3 ? tileFor(move[0]) : -1;
+
+            if (tile < 0) {
+                this.out.println("moves are o, f, ? or c followed by row col, q quits");
+                continue;
+            }
+
+            try {
+                game.markTile(Integer.parseInt(move[1]), Integer.parseInt(move[2]), tile);
+            } catch (NumberFormatException e) {
+                this.out.println("row and col must be numbers");
+                continue;
+            }
+
+            printBoard(game);
+        }
+
+        this.out.println("seed " + game.getSeed());
+        this.out.flush();
+    }
+
+    //-----------------------------------------------------------------
+    //  Generates a board and saves it as a snapshot.
+    //-----------------------------------------------------------------
+    private void generate(String[] args) throws IOException {
+        int next = boardArgCount(args, 1);
+
+        if (args.length != 3 + next) {
+            throw new IllegalArgumentException("generate needs a board, a seed and a file");
+        }
+
+        minesweeper game = newGame(args, 1, parseLong(args[1 + next]));
+        Path file = Path.of(args[2 + next]);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            game.snapshot().write(channel);
+        }
+
+        this.out.println(game.getRows() + " x " + game.getCols() + ", " + game.getMineCount()
+                + " mines, seed " + game.getSeed() + " written to " + file);
+        this.out.flush();
+    }
+
+    //-----------------------------------------------------------------
+    //  Prints a saved game: its details, the mines and the board.
+    //-----------------------------------------------------------------
+    private void dump(Path file) throws IOException {
+        minesweeper game;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            game = new minesweeper(GameSnapshot.read(channel));
+        }
+
+        this.out.println(game.getRows() + " x " + game.getCols() + ", " + game.getMineCount()
+                + " mines, seed " + game.getSeed() + ", status " + game.getGameStatus());
+        this.out.print("mines:");
+        game.writeMines(this.out);
+        printBoard(game);
+    }
+
+    //-----------------------------------------------------------------
+    //  Prints the board and the game status.
+    //-----------------------------------------------------------------
+    private void printBoard(minesweeper game) throws IOException {
+        this.out.println("board:");
+        game.writeBoard(this.out);
+        this.out.println("status: " + game.getGameStatus());
+        this.out.flush();
+    }
+
+    //-----------------------------------------------------------------
+    //  Number of arguments the board starting at args[first] takes.
+    //-----------------------------------------------------------------
+    private static int boardArgCount(String[] args, int first) {
+        if (args.length <= first) {
+            throw new IllegalArgumentException("missing board");
+        }
+
+        return levelFor(args[first]) != null ? 1 : 3;
+    }
+
+    //-----------------------------------------------------------------
+    //  Creates the game described by the board starting at
+    //  args[first].
+    //-----------------------------------------------------------------
+    private static minesweeper newGame(String[] args, int first, long seed) {
+        GameLevel level = levelFor(args[first]);
+
+        if (level != null) {
+            return level.newGame(seed);
+        }
+
+        if (args.length < first + 3) {
+            throw new IllegalArgumentException("board needs rows cols mines");
+        }
+
+        int rows = parseInt(args[first]);
+        int cols = parseInt(args[first + 1]);
+        int mines = parseInt(args[first + 2]);
+
+        if (rows < 1 || cols < 1) {
+            throw new IllegalArgumentException("board must have at least one row and column");
+        }
+
+        return new minesweeper(rows, cols, mines, seed);
+    }
+
+    //-----------------------------------------------------------------
+    //  Level with the given name, or null.
+    //-----------------------------------------------------------------
+    private static GameLevel levelFor(String name) {
+        for (GameLevel level : GameLevel.values()) {
+            if (level.name().equalsIgnoreCase(name)) {
+                return level;
+            }
+        }
+
+        return null;
+    }
+
+    //-----------------------------------------------------------------
+    //  Tile value of a move letter, or -1.
+    //-----------------------------------------------------------------
+    private static int tileFor(String letter) {
+        switch (letter) {
+            case "o":
+                return Constants.OPENED;
+            case "c":
+                return Constants.CLOSED;
+            case "?":
+                return Constants.QUESTION;
+            case "f":
+                return Constants.FLAG;
+            default:
+                return -1;
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Parses an int argument.
+    //-----------------------------------------------------------------
+    private static int parseInt(String text) {
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("not a number: " + text);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Parses a long argument.
+    //-----------------------------------------------------------------
+    private static long parseLong(String text) {
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("not a number: " + text);
+        }
+    }
+}
@@ -0,0 +1,419 @@
+//********************************************************************
+//  MinesweeperSolver.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  Deterministic solver working through the GameData interface.  It
+//  only looks at the clues of opened tiles and finds the closed tiles
+//  that are provably safe or provably mined, using two rules:
+//
+//      single cell - a clue whose remaining mines are 0, or equal to
+//                    its unknown neighbours, decides them all.
+//      pair        - for two nearby clues A and B, if A needs
+//                    exactly as many more mines than B as it has
+//                    unknown cells B does not share, those cells are
+//                    mines and B's own cells are safe.  This covers
+//                    subset rules and patterns such as 1-2-1.
+//
+//  Work is incremental: after each move pass the changed cells to
+//  cellsChanged and only the clues around them are looked at again.
+//  Player flags are not trusted; a flagged tile counts as unknown
+//  until the solver proves it.  Cells are row * cols + col indexes.
+//********************************************************************
+
+import java.util.Arrays;
+
+public class MinesweeperSolver {
+    // cell states.  unknown cells are closed and not yet proven.
+    private static final byte UNKNOWN = 0, OPEN = 1, SAFE = 2, MINE = 3;
+
+    // pair masks cover a 7 x 7 window centred on the first clue.
+    private static final int WINDOW = 7, WINDOW_CENTRE = 3;
+
+    // the game being solved.
+    private GameData game;
+    // board dimensions.
+    private int rows, cols;
+
+    // state of each cell.
+    private byte[] state;
+    // clue of each opened cell.
+    private byte[] clue;
+
+    // opened cells whose clue has to be looked at again.
+    private int[] queue = new int[64];
+    private int queueSize;
+    // true for cells in the queue.
+    private boolean[] queued;
+
+    // cells proven safe, some may have been opened since.
+    private int[] safeCells = new int[16];
+    private int safeCount;
+    // cells proven to hold a mine.
+    private int[] mineCells = new int[16];
+    private int mineCount;
+
+    //-----------------------------------------------------------------
+    //  Constructor.  Reads every opened tile of the game.
+    //-----------------------------------------------------------------
+    public MinesweeperSolver(GameData game) {
+        reset(game);
+    }
+
+    //-----------------------------------------------------------------
+    //  Starts over on another game, forgetting every proven cell.
+    //  The cell arrays are kept when the board size is unchanged, so
+    //  one solver can be reused for many games.
+    //-----------------------------------------------------------------
+    public void reset(GameData game) {
+        int newRows = game.getRows();
+        int newCols = game.getCols();
+
+        if ((long) newRows * newCols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("board too large for the solver");
+        }
+
+        if (this.state != null && this.state.length == newRows * newCols) {
+            Arrays.fill(this.state, UNKNOWN);
+            Arrays.fill(this.clue, (byte) 0);
+            Arrays.fill(this.queued, false);
+        } else {
+            this.state = new byte[newRows * newCols];
+            this.clue = new byte[newRows * newCols];
+            this.queued = new boolean[newRows * newCols];
+        }
+
+        this.game = game;
+        this.rows = newRows;
+        this.cols = newCols;
+        this.queueSize = 0;
+        this.safeCount = 0;
+        this.mineCount = 0;
+
+        rescan();
+    }
+
+    //-----------------------------------------------------------------
+    //  Reads every tile of the game again.  Proven cells are kept.
+    //-----------------------------------------------------------------
+    public void rescan() {
+        for (int index = 0; index < this.state.length; index++) {
+            readCell(index);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Reads the given cells again, normally GameData.getChangedCells
+    //  after a move, and queues the clues around them.
+    //-----------------------------------------------------------------
+    public void cellsChanged(int[] cells) {
+        for (int index : cells) {
+            if (index >= 0 && index < this.state.length) {
+                readCell(index);
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Applies the rules until no queued clue proves anything more.
+    //  Returns the number of cells newly proven safe or mined.
+    //-----------------------------------------------------------------
+    public int solve() {
+        int before = this.safeCount + this.mineCount;
+
+        while (this.queueSize > 0) {
+            int index = this.queue[--this.queueSize];
+            this.queued[index] = false;
+
+            if (!applySingleRule(index)) {
+                applyPairRule(index);
+            }
+        }
+
+        return this.safeCount + this.mineCount - before;
+    }
+
+    //-----------------------------------------------------------------
+    //  Cells proven safe that are still closed.
+    //-----------------------------------------------------------------
+    public int[] getSafeCells() {
+        // drop the cells opened since they were proven.
+        int kept = 0;
+
+        for (int i = 0; i < this.safeCount; i++) {
+            if (this.state[this.safeCells[i]] == SAFE) {
+                this.safeCells[kept++] = this.safeCells[i];
+            }
+        }
+        this.safeCount = kept;
+
+        return Arrays.copyOf(this.safeCells, kept);
+    }
+
+    //-----------------------------------------------------------------
+    //  Cells proven to hold a mine.
+    //-----------------------------------------------------------------
+    public int[] getMineCells() {
+        return Arrays.copyOf(this.mineCells, this.mineCount);
+    }
+
+    //-----------------------------------------------------------------
+    //  Returns true if row,col is closed and proven safe.
+    //-----------------------------------------------------------------
+    public boolean isSafe(int row, int col) {
+        return validIndex(row, col) && this.state[row * this.cols + col] == SAFE;
+    }
+
+    //-----------------------------------------------------------------
+    //  Returns true if row,col is proven to hold a mine.
+    //-----------------------------------------------------------------
+    public boolean isMine(int row, int col) {
+        return validIndex(row, col) && this.state[row * this.cols + col] == MINE;
+    }
+
+    //-----------------------------------------------------------------
+    //  Records a cell that has been opened and queues the clues it
+    //  and its opened neighbours give.
+    //-----------------------------------------------------------------
+    private void readCell(int index) {
+        if (this.state[index] == OPEN) {
+            return;
+        }
+
+        int row = index / this.cols;
+        int col = index - row * this.cols;
+
+        if (this.game.getTiles(row, col) != Constants.OPENED) {
+            return;
+        }
+
+        int value = this.game.getMines(row, col);
+
+        if (value == Constants.MINE) {
+            // an opened mine ends the game, treat it as proven.
+            prove(index, MINE);
+            return;
+        }
+
+        this.state[index] = OPEN;
+        this.clue[index] = (byte) value;
+        enqueue(index);
+        enqueueOpenNeighbours(index);
+    }
+
+    //-----------------------------------------------------------------
+    //  Single cell rule for the clue at index.  Returns true if it
+    //  proved anything.
+    //-----------------------------------------------------------------
+    private boolean applySingleRule(int index) {
+        int row = index / this.cols;
+        int col = index - row * this.cols;
+        int unknown = 0;
+        int remaining = this.clue[index];
+
+        for (int y = -1; y <= 1; y++) {
+            for (int x = -1; x <= 1; x++) {
+                if ((y != 0 || x != 0) && validIndex(row + y, col + x)) {
+                    byte neighbour = this.state[index + y * this.cols + x];
+
+                    if (neighbour == UNKNOWN) {
+                        unknown++;
+                    } else if (neighbour == MINE) {
+                        remaining--;
+                    }
+                }
+            }
+        }
+
+        if (unknown == 0 || (remaining != 0 && remaining != unknown)) {
+            return false;
+        }
+
+        byte proven = remaining == 0 ? SAFE : MINE;
+
+        for (int y = -1; y <= 1; y++) {
+            for (int x = -1; x <= 1; x++) {
+                if ((y != 0 || x != 0) && validIndex(row + y, col + x)) {
+                    int neighbour = index + y * this.cols + x;
+
+                    if (this.state[neighbour] == UNKNOWN) {
+                        prove(neighbour, proven);
+                    }
+                }
+            }
+        }
+
+        return true;
+    }
+
+    //-----------------------------------------------------------------
+    //  Pair rule for the clue at index against every opened cell up
+    //  to two rows or columns away.
+    //-----------------------------------------------------------------
+    private void applyPairRule(int index) {
+        int row = index / this.cols;
+        int col = index - row * this.cols;
+        long unknownA = unknownMask(row, col, 0, 0);
+
+        if (unknownA == 0) {
+            return;
+        }
+
+        int remainingA = remainingMines(row, col);
+
+        for (int dy = -2; dy <= 2; dy++) {
+            for (int dx = -2; dx <= 2; dx++) {
+                if ((dy == 0 && dx == 0) || !validIndex(row + dy, col + dx)
+                        || this.state[index + dy * this.cols + dx] != OPEN) {
+                    continue;
+                }
+
+                long unknownB = unknownMask(row + dy, col + dx, dy, dx);
+
+                if ((unknownA & unknownB) == 0) {
+                    continue;
+                }
+
+                int remainingB = remainingMines(row + dy, col + dx);
+                long onlyA = unknownA & ~unknownB;
+                long onlyB = unknownB & ~unknownA;
+
+                if (remainingA - remainingB == Long.bitCount(onlyA)) {
+                    proveMask(row, col, onlyA, MINE);
+                    proveMask(row, col, onlyB, SAFE);
+                } else if (remainingB - remainingA == Long.bitCount(onlyB)) {
+                    proveMask(row, col, onlyB, MINE);
+                    proveMask(row, col, onlyA, SAFE);
+                } else {
+                    continue;
+                }
+
+                if (onlyA != 0 || onlyB != 0) {
+                    // this clue changed, the queue will bring it back.
+                    return;
+                }
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Unknown neighbours of row,col as bits of the 7 x 7 window
+    //  centred dy,dx away from row,col.
+    //-----------------------------------------------------------------
+    private long unknownMask(int row, int col, int dy, int dx) {
+        long mask = 0;
+
+        for (int y = -1; y <= 1; y++) {
+            for (int x = -1; x <= 1; x++) {
+                if ((y != 0 || x != 0) && validIndex(row + y, col + x)
+                        && this.state[(row + y) * this.cols + col + x] == UNKNOWN) {
+                    int bit = (dy + y + WINDOW_CENTRE) * WINDOW + dx + x + WINDOW_CENTRE;
+                    mask |= 1L << bit;
+                }
+            }
+        }
+
+        return mask;
+    }
+
+    //-----------------------------------------------------------------
+    //  Clue of row,col less its proven mine neighbours.
+    //-----------------------------------------------------------------
+    private int remainingMines(int row, int col) {
+        int index = row * this.cols + col;
+        int remaining = this.clue[index];
+
+        for (int y = -1; y <= 1; y++) {
+            for (int x = -1; x <= 1; x++) {
+                if ((y != 0 || x != 0) && validIndex(row + y, col + x)
+                        && this.state[index + y * this.cols + x] == MINE) {
+                    remaining--;
+                }
+            }
+        }
+
+        return remaining;
+    }
+
+    //-----------------------------------------------------------------
+    //  Proves every cell of a window mask centred on row,col.
+    //-----------------------------------------------------------------
+    private void proveMask(int row, int col, long mask, byte proven) {
+        for (long bits = mask; bits != 0; bits &= bits - 1) {
+            int bit = Long.numberOfTrailingZeros(bits);
+            int cellRow = row + bit / WINDOW - WINDOW_CENTRE;
+            int cellCol = col + bit % WINDOW - WINDOW_CENTRE;
+
+            prove(cellRow * this.cols + cellCol, proven);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Records a proven cell and queues the clues around it.
+    //-----------------------------------------------------------------
+    private void prove(int index, byte proven) {
+        if (this.state[index] != UNKNOWN) {
+            return;
+        }
+
+        this.state[index] = proven;
+
+        if (proven == SAFE) {
+            if (this.safeCount == this.safeCells.length) {
+                this.safeCells = Arrays.copyOf(this.safeCells, this.safeCount * 2);
+            }
+            this.safeCells[this.safeCount++] = index;
+        } else {
+            if (this.mineCount == this.mineCells.length) {
+                this.mineCells = Arrays.copyOf(this.mineCells, this.mineCount * 2);
+            }
+            this.mineCells[this.mineCount++] = index;
+        }
+
+        enqueueOpenNeighbours(index);
+    }
+
+    //-----------------------------------------------------------------
+    //  Queues the opened neighbours of a cell.
+    //-----------------------------------------------------------------
+    private void enqueueOpenNeighbours(int index) {
+        int row = index / this.cols;
+        int col = index - row * this.cols;
+
+        for (int y = -1; y <= 1; y++) {
+            for (int x = -1; x <= 1; x++) {
+                if ((y != 0 || x != 0) && validIndex(row + y, col + x)) {
+                    int neighbour = index + y * this.cols + x;
+
+                    if (this.state[neighbour] == OPEN) {
+                        enqueue(neighbour);
+                    }
+                }
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Queues an opened cell unless it is already queued.
+    //-----------------------------------------------------------------
+    private void enqueue(int index) {
+        if (this.queued[index]) {
+            return;
+        }
+
+        if (this.queueSize == this.queue.length) {
+            this.queue = Arrays.copyOf(this.queue, this.queueSize * 2);
+        }
+
+        this.queue[this.queueSize++] = index;
+        this.queued[index] = true;
+    }
+
+    //-----------------------------------------------------------------
+    //  Determines if row,col is a position on the board.
+    //-----------------------------------------------------------------
+    private boolean validIndex(int row, int col) {
+        return row >= 0 && row < this.rows && col >= 0 && col < this.cols;
+    }
+}
@@ -0,0 +1,71 @@
+//********************************************************************
+//  MoveBatchResult.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  Aggregated result of applying a batch of moves with
+//  GameData.markTiles.
+//********************************************************************
+
+public class MoveBatchResult {
+    // number of moves applied before the batch ended.
+    private final int movesApplied;
+    // number of tiles whose value changed.
+    private final int cellsChanged;
+    // game status after the batch.
+    private final GameStatus status;
+    // index of the move that ended the game, -1 if none did.
+    private final int endingMove;
+
+    //-----------------------------------------------------------------
+    //  Constructor.
+    //-----------------------------------------------------------------
+    public MoveBatchResult(int movesApplied, int cellsChanged, GameStatus status, int endingMove) {
+        this.movesApplied = movesApplied;
+        this.cellsChanged = cellsChanged;
+        this.status = status;
+        this.endingMove = endingMove;
+    }
+
+    //-----------------------------------------------------------------
+    //  Number of moves applied.  Moves after the one that ended the
+    //  game are not applied.
+    //-----------------------------------------------------------------
+    public int getMovesApplied() {
+        return this.movesApplied;
+    }
+
+    //-----------------------------------------------------------------
+    //  Number of tiles whose value changed, including tiles opened
+    //  around a blank tile.
+    //-----------------------------------------------------------------
+    public int getCellsChanged() {
+        return this.cellsChanged;
+    }
+
+    //-----------------------------------------------------------------
+    //  Game status after the batch.
+    //-----------------------------------------------------------------
+    public GameStatus getStatus() {
+        return this.status;
+    }
+
+    //-----------------------------------------------------------------
+    //  Index of the move that ended the game, -1 if the game was
+    //  still in play after the batch or had already ended before it.
+    //-----------------------------------------------------------------
+    public int getEndingMove() {
+        return this.endingMove;
+    }
+
+    //-----------------------------------------------------------------
+    //  Return a string representation of this result.
+    //-----------------------------------------------------------------
+    public String toString() {
+        return "moves applied: " + this.movesApplied
+                + " cells changed: " + this.cellsChanged
+                + " status: " + this.status
+                + " ending move: " + this.endingMove;
+    }
+}
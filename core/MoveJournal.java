@@ -0,0 +1,478 @@
+//********************************************************************
+//  MoveJournal.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  Append-only journal of the moves made on a minesweeper game.
+//  Moves are applied through the journal, which records them as
+//  variable length records and every checkpointInterval moves adds
+//  a snapshot of the game.  Seeking to move n restores the nearest
+//  checkpoint at or before n and replays only the moves after it.
+//
+//  File format:
+//      int   magic "MSJN", int version, long start time (epoch ms),
+//      int   checkpoint interval
+//      then records, each starting with a tag byte:
+//      0-3   move, the tag is the tile value marked, followed by
+//            varint row, varint col (both zigzag) and varint
+//            milliseconds since the previous move
+//      4     checkpoint, followed by varint move number, varint
+//            snapshot length and the GameSnapshot bytes
+//  The journal starts with a checkpoint of the game at move 0.
+//********************************************************************
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+public class MoveJournal implements Closeable {
+    // identifies a journal, "MSJN".
+    private static final int MAGIC = 0x4D534A4E;
+    // journal format version.
+    public static final int VERSION = 1;
+    // bytes before the first record.
+    private static final int HEADER_SIZE = 20;
+    // tag of a checkpoint record, move tags are the tile value.
+    private static final int CHECKPOINT = 4;
+    // longest move record: tag, two 5 byte and one 10 byte varint.
+    private static final int MAX_MOVE_SIZE = 21;
+    // size of the read and write buffers.
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    //-----------------------------------------------------------------
+    //  Receives the moves of a journal in order, see forEachMove.
+    //-----------------------------------------------------------------
+    public interface MoveVisitor {
+        void move(long number, int row, int col, int tile, long timeMillis);
+    }
+
+    // the journal file.
+    private final FileChannel channel;
+    // moves between checkpoints.
+    private final int checkpointInterval;
+    // time of the first move, epoch milliseconds.
+    private final long startTime;
+
+    // records not yet written to the file.
+    private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    // file position the write buffer starts at.
+    private long writePosition;
+    // buffer used while reading records back.
+    private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    // file position the read buffer starts at.
+    private long readPosition;
+
+    // game the moves are applied to.
+    private minesweeper game;
+    // number of moves recorded.
+    private long moveCount;
+    // time of the last move recorded.
+    private long lastMoveTime;
+
+    // move number and snapshot file position of each checkpoint.
+    private long[] checkpointMoves = new long[16];
+    private long[] checkpointPositions = new long[16];
+    // number of checkpoints in use.
+    private int checkpointCount;
+
+    //-----------------------------------------------------------------
+    //  Constructor.  Use create or open.
+    //-----------------------------------------------------------------
+    private MoveJournal(FileChannel channel, int checkpointInterval, long startTime) {
+        this.channel = channel;
+        this.checkpointInterval = checkpointInterval;
+        this.startTime = startTime;
+        this.lastMoveTime = startTime;
+    }
+
+    //-----------------------------------------------------------------
+    //  Creates a journal for game, replacing any existing file.  A
+    //  checkpoint is written every checkpointInterval moves.
+    //-----------------------------------------------------------------
+    public static MoveJournal create(Path file, minesweeper game, int checkpointInterval) throws IOException {
+        if (checkpointInterval < 1) {
+            throw new IllegalArgumentException("checkpoint interval must be at least 1");
+        }
+
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        MoveJournal journal = new MoveJournal(channel, checkpointInterval, System.currentTimeMillis());
+        journal.game = game;
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putLong(journal.startTime).putInt(checkpointInterval).flip();
+        writeFully(channel, header, 0);
+
+        journal.writePosition = HEADER_SIZE;
+        journal.checkpoint();
+
+        return journal;
+    }
+
+    //-----------------------------------------------------------------
+    //  Opens an existing journal to continue recording.  The game is
+    //  rebuilt from the last checkpoint.  A move cut short by a crash
+    //  at the end of the file is dropped.
+    //-----------------------------------------------------------------
+    public static MoveJournal open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, header, 0);
+        header.flip();
+
+        if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+            channel.close();
+            throw new IOException("not a move journal: " + file);
+        }
+
+        long startTime = header.getLong();
+        int checkpointInterval = header.getInt();
+
+        if (checkpointInterval < 1) {
+            channel.close();
+            throw new IOException("corrupt move journal header: checkpoint interval "
+                    + checkpointInterval + " in " + file);
+        }
+
+        MoveJournal journal = new MoveJournal(channel, checkpointInterval, startTime);
+
+        journal.scan();
+        journal.game = journal.seek(journal.moveCount);
+
+        return journal;
+    }
+
+    //-----------------------------------------------------------------
+    //  Game the moves are applied to.
+    //-----------------------------------------------------------------
+    public minesweeper getGame() {
+        return this.game;
+    }
+
+    //-----------------------------------------------------------------
+    //  Number of moves recorded.
+    //-----------------------------------------------------------------
+    public long getMoveCount() {
+        return this.moveCount;
+    }
+
+    //-----------------------------------------------------------------
+    //  Applies a move to the game and records it.  Tile values
+    //  outside 0 - 3 have no effect on the game and are not recorded.
+    //-----------------------------------------------------------------
+    public void markTile(int row, int col, int tile) throws IOException {
+        this.game.markTile(row, col, tile);
+
+        if (tile < Constants.OPENED || tile > Constants.FLAG) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+
+        reserve(MAX_MOVE_SIZE);
+        this.writeBuffer.put((byte) tile);
+        putVarLong(this.writeBuffer, zigzag(row));
+        putVarLong(this.writeBuffer, zigzag(col));
+        putVarLong(this.writeBuffer, Math.max(0, now - this.lastMoveTime));
+
+        this.lastMoveTime = Math.max(now, this.lastMoveTime);
+        this.moveCount++;
+
+        if (this.moveCount % this.checkpointInterval == 0) {
+            checkpoint();
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Returns a new game in the state after the first move moves.
+    //  Only the moves after the nearest checkpoint are replayed.
+    //-----------------------------------------------------------------
+    public minesweeper seek(long move) throws IOException {
+        if (move < 0 || move > this.moveCount) {
+            throw new IllegalArgumentException("move " + move + " is not in 0 ... " + this.moveCount);
+        }
+
+        flush();
+
+        int checkpoint = Arrays.binarySearch(this.checkpointMoves, 0, this.checkpointCount, move);
+
+        if (checkpoint < 0) {
+            checkpoint = -checkpoint - 2;
+        }
+
+        this.channel.position(this.checkpointPositions[checkpoint]);
+        minesweeper replay = new minesweeper(GameSnapshot.read(this.channel, this.readBuffer));
+
+        replay(this.channel.position(), this.checkpointMoves[checkpoint], move, replay, null);
+
+        return replay;
+    }
+
+    //-----------------------------------------------------------------
+    //  Passes every recorded move to visitor, in order.
+    //-----------------------------------------------------------------
+    public void forEachMove(MoveVisitor visitor) throws IOException {
+        flush();
+        replay(HEADER_SIZE, 0, this.moveCount, null, visitor);
+    }
+
+    //-----------------------------------------------------------------
+    //  Writes buffered records to the file.
+    //-----------------------------------------------------------------
+    public void flush() throws IOException {
+        this.writeBuffer.flip();
+        this.writePosition += writeFully(this.channel, this.writeBuffer, this.writePosition);
+        this.writeBuffer.clear();
+    }
+
+    //-----------------------------------------------------------------
+    //  Flushes and closes the journal file.
+    //-----------------------------------------------------------------
+    public void close() throws IOException {
+        flush();
+        this.channel.force(false);
+        this.channel.close();
+    }
+
+    //-----------------------------------------------------------------
+    //  Appends a checkpoint record holding a snapshot of the game.
+    //  The snapshot goes through the write buffer, empty after the
+    //  flush, so checkpoints allocate no direct memory.
+    //-----------------------------------------------------------------
+    private void checkpoint() throws IOException {
+        GameSnapshot snapshot = this.game.snapshot();
+
+        reserve(MAX_MOVE_SIZE);
+        this.writeBuffer.put((byte) CHECKPOINT);
+        putVarLong(this.writeBuffer, this.moveCount);
+        putVarLong(this.writeBuffer, snapshot.getByteSize());
+        flush();
+
+        addCheckpoint(this.moveCount, this.writePosition);
+
+        this.channel.position(this.writePosition);
+        snapshot.write(this.channel, this.writeBuffer);
+        this.writePosition += snapshot.getByteSize();
+    }
+
+    //-----------------------------------------------------------------
+    //  Adds an entry to the checkpoint index.
+    //-----------------------------------------------------------------
+    private void addCheckpoint(long move, long position) {
+        if (this.checkpointCount == this.checkpointMoves.length) {
+            this.checkpointMoves = Arrays.copyOf(this.checkpointMoves, this.checkpointCount * 2);
+            this.checkpointPositions = Arrays.copyOf(this.checkpointPositions, this.checkpointCount * 2);
+        }
+
+        this.checkpointMoves[this.checkpointCount] = move;
+        this.checkpointPositions[this.checkpointCount] = position;
+        this.checkpointCount++;
+    }
+
+    //-----------------------------------------------------------------
+    //  Reads the whole file once to rebuild the checkpoint index, the
+    //  move count and the time of the last move.
+    //-----------------------------------------------------------------
+    private void scan() throws IOException {
+        long end = this.channel.size();
+        long position = HEADER_SIZE;
+        ByteBuffer buffer = this.readBuffer;
+
+        fill(position);
+
+        while (true) {
+            position = this.readPosition + buffer.position();
+
+            if (buffer.remaining() < MAX_MOVE_SIZE && position < end) {
+                fill(position);
+            }
+
+            if (!buffer.hasRemaining()) {
+                break;
+            }
+
+            try {
+                int tag = buffer.get();
+
+                if (tag == CHECKPOINT) {
+                    long move = getVarLong(buffer);
+                    long length = getVarLong(buffer);
+                    long snapshot = this.readPosition + buffer.position();
+
+                    if (snapshot + length > end) {
+                        break;
+                    }
+
+                    addCheckpoint(move, snapshot);
+                    this.moveCount = move;
+                    fill(snapshot + length);
+                } else {
+                    getVarLong(buffer);
+                    getVarLong(buffer);
+                    this.lastMoveTime += getVarLong(buffer);
+                    this.moveCount++;
+                }
+            } catch (EOFException e) {
+                break;
+            }
+        }
+
+        if (this.checkpointCount == 0) {
+            throw new IOException("move journal has no checkpoint");
+        }
+
+        // drop a partly written record.
+        this.channel.truncate(position);
+        this.writePosition = position;
+    }
+
+    //-----------------------------------------------------------------
+    //  Decodes the moves after move number from, which start at file
+    //  position, up to move number to.  Moves are applied to game
+    //  and passed to visitor, either may be null.  Nothing is
+    //  allocated per move.
+    //-----------------------------------------------------------------
+    private void replay(long position, long from, long to, minesweeper game, MoveVisitor visitor)
+            throws IOException {
+        long end = this.writePosition;
+        long time = this.startTime;
+        ByteBuffer buffer = this.readBuffer;
+
+        fill(position);
+
+        for (long move = from; move < to; ) {
+            if (buffer.remaining() < MAX_MOVE_SIZE && this.readPosition + buffer.limit() < end) {
+                fill(this.readPosition + buffer.position());
+            }
+
+            int tag = buffer.get();
+
+            if (tag == CHECKPOINT) {
+                getVarLong(buffer);
+                long length = getVarLong(buffer);
+                fill(this.readPosition + buffer.position() + length);
+                continue;
+            }
+
+            int row = unzigzag(getVarLong(buffer));
+            int col = unzigzag(getVarLong(buffer));
+            time += getVarLong(buffer);
+            move++;
+
+            if (game != null) {
+                game.markTile(row, col, tag);
+            }
+
+            if (visitor != null) {
+                visitor.move(move, row, col, tag, time);
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Refills the read buffer from file position.
+    //-----------------------------------------------------------------
+    private void fill(long position) throws IOException {
+        ByteBuffer buffer = this.readBuffer;
+
+        buffer.clear();
+        buffer.limit((int) Math.max(0, Math.min(buffer.capacity(), this.channel.size() - position)));
+        readFully(this.channel, buffer, position);
+        buffer.flip();
+
+        this.readPosition = position;
+    }
+
+    //-----------------------------------------------------------------
+    //  Makes room for a record in the write buffer.
+    //-----------------------------------------------------------------
+    private void reserve(int size) throws IOException {
+        if (this.writeBuffer.remaining() < size) {
+            flush();
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Writes all remaining bytes at position, returns the count.
+    //-----------------------------------------------------------------
+    private static int writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        int written = 0;
+
+        while (buffer.hasRemaining()) {
+            written += channel.write(buffer, position + written);
+        }
+
+        return written;
+    }
+
+    //-----------------------------------------------------------------
+    //  Reads from position until the buffer is full.
+    //-----------------------------------------------------------------
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long offset = position - buffer.position();
+
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new EOFException("move journal ends early");
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Writes value as an unsigned varint, 7 bits per byte.
+    //-----------------------------------------------------------------
+    private static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+
+        buffer.put((byte) value);
+    }
+
+    //-----------------------------------------------------------------
+    //  Reads an unsigned varint.
+    //-----------------------------------------------------------------
+    private static long getVarLong(ByteBuffer buffer) throws EOFException {
+        long value = 0;
+
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (!buffer.hasRemaining()) {
+                throw new EOFException("move journal record cut short");
+            }
+
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+
+            if (b >= 0) {
+                return value;
+            }
+        }
+
+        throw new EOFException("malformed varint in move journal");
+    }
+
+    //-----------------------------------------------------------------
+    //  Maps a signed int to an unsigned value, small magnitudes first.
+    //-----------------------------------------------------------------
+    private static long zigzag(int value) {
+        return ((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL;
+    }
+
+    //-----------------------------------------------------------------
+    //  Inverse of zigzag.
+    //-----------------------------------------------------------------
+    private static int unzigzag(long value) {
+        return (int) (value >>> 1) ^ -(int) (value & 1);
+    }
+}
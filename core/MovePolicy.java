@@ -0,0 +1,24 @@
+//********************************************************************
+//  MovePolicy.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  Strategy used by SimulationRunner to play games.  Each simulation
+//  thread gets its own policy instance, so a policy may keep state
+//  between calls without locking.
+//********************************************************************
+
+public interface MovePolicy {
+
+    //-----------------------------------------------------------------
+    //  Called before the first move of every game.
+    //-----------------------------------------------------------------
+    void newGame(GameData game, int mineCount);
+
+    //-----------------------------------------------------------------
+    //  Writes the next move into move as row, col, tile value.
+    //  Returns false to give the game up.
+    //-----------------------------------------------------------------
+    boolean nextMove(GameData game, int[] move);
+}
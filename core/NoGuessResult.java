@@ -0,0 +1,68 @@
+//********************************************************************
+//  NoGuessResult.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  Board found by minesweeper.noGuess, with the cost of finding it.
+//********************************************************************
+
+public class NoGuessResult {
+    // the board, not yet played.
+    private final minesweeper game;
+    // candidates up to and including the one returned.
+    private final int attempts;
+    // candidates generated by all workers, including abandoned ones.
+    private final int candidatesChecked;
+    // time taken by the search, in nanoseconds.
+    private final long elapsedNanos;
+
+    //-----------------------------------------------------------------
+    //  Constructor.
+    //-----------------------------------------------------------------
+    public NoGuessResult(minesweeper game, int attempts, int candidatesChecked, long elapsedNanos) {
+        this.game = game;
+        this.attempts = attempts;
+        this.candidatesChecked = candidatesChecked;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    //-----------------------------------------------------------------
+    //  The board.  Open the safe tile first.
+    //-----------------------------------------------------------------
+    public minesweeper getGame() {
+        return this.game;
+    }
+
+    //-----------------------------------------------------------------
+    //  Number of candidates, in order, up to the one returned.
+    //-----------------------------------------------------------------
+    public int getAttempts() {
+        return this.attempts;
+    }
+
+    //-----------------------------------------------------------------
+    //  Number of candidates generated on all cores.  Can exceed
+    //  getAttempts, as later candidates are already being checked
+    //  when one qualifies.
+    //-----------------------------------------------------------------
+    public int getCandidatesChecked() {
+        return this.candidatesChecked;
+    }
+
+    //-----------------------------------------------------------------
+    //  Time taken by the search, in nanoseconds.
+    //-----------------------------------------------------------------
+    public long getElapsedNanos() {
+        return this.elapsedNanos;
+    }
+
+    //-----------------------------------------------------------------
+    //  Return a string representation of this result.
+    //-----------------------------------------------------------------
+    public String toString() {
+        return "attempts: " + this.attempts
+                + " candidates checked: " + this.candidatesChecked
+                + " time: " + this.elapsedNanos / 1_000_000 + " ms";
+    }
+}
@@ -0,0 +1,109 @@
+//********************************************************************
+//  SimulationReport.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  Totals of a SimulationRunner run.
+//********************************************************************
+
+public class SimulationReport {
+    // games played, won and lost; the rest were given up.
+    private final long games, wins, losses;
+    // moves made over all games.
+    private final long moves;
+    // wall clock time of the run, in nanoseconds.
+    private final long elapsedNanos;
+    // move latency percentiles 50, 90, 99, 99.9 and the maximum,
+    // in nanoseconds.
+    private final long[] latencyPercentiles;
+
+    //-----------------------------------------------------------------
+    //  Constructor.
+    //-----------------------------------------------------------------
+    public SimulationReport(long games, long wins, long losses, long moves,
+                            long elapsedNanos, long[] latencyPercentiles) {
+        this.games = games;
+        this.wins = wins;
+        this.losses = losses;
+        this.moves = moves;
+        this.elapsedNanos = elapsedNanos;
+        this.latencyPercentiles = latencyPercentiles.clone();
+    }
+
+    //-----------------------------------------------------------------
+    //  Number of games played.
+    //-----------------------------------------------------------------
+    public long getGames() {
+        return this.games;
+    }
+
+    //-----------------------------------------------------------------
+    //  Number of games won.
+    //-----------------------------------------------------------------
+    public long getWins() {
+        return this.wins;
+    }
+
+    //-----------------------------------------------------------------
+    //  Number of games lost.
+    //-----------------------------------------------------------------
+    public long getLosses() {
+        return this.losses;
+    }
+
+    //-----------------------------------------------------------------
+    //  Number of moves made.
+    //-----------------------------------------------------------------
+    public long getMoves() {
+        return this.moves;
+    }
+
+    //-----------------------------------------------------------------
+    //  Wall clock time of the run, in nanoseconds.
+    //-----------------------------------------------------------------
+    public long getElapsedNanos() {
+        return this.elapsedNanos;
+    }
+
+    //-----------------------------------------------------------------
+    //  Games played per second.
+    //-----------------------------------------------------------------
+    public double getGamesPerSecond() {
+        return this.games * 1e9 / Math.max(1, this.elapsedNanos);
+    }
+
+    //-----------------------------------------------------------------
+    //  Fraction of games won.
+    //-----------------------------------------------------------------
+    public double getWinRate() {
+        return this.games == 0 ? 0 : (double) this.wins / this.games;
+    }
+
+    //-----------------------------------------------------------------
+    //  Average moves per game.
+    //-----------------------------------------------------------------
+    public double getMovesPerGame() {
+        return this.games == 0 ? 0 : (double) this.moves / this.games;
+    }
+
+    //-----------------------------------------------------------------
+    //  Move latency percentiles 50, 90, 99, 99.9 and the maximum, in
+    //  nanoseconds.  Values are bucket lower bounds, within 1/8.
+    //-----------------------------------------------------------------
+    public long[] getLatencyPercentiles() {
+        return this.latencyPercentiles.clone();
+    }
+
+    //-----------------------------------------------------------------
+    //  Return a string representation of this report.
+    //-----------------------------------------------------------------
+    public String toString() {
+        long[] p = this.latencyPercentiles;
+
+        return String.format("games: %d  games/sec: %.0f  win rate: %.2f%%  moves/game: %.1f%n"
+                        + "move latency ns  p50: %d  p90: %d  p99: %d  p99.9: %d  max: %d",
+                this.games, getGamesPerSecond(), getWinRate() * 100, getMovesPerGame(),
+                p[0], p[1], p[2], p[3], p[4]);
+    }
+}
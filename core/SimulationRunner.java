@@ -0,0 +1,238 @@
+//********************************************************************
+//  SimulationRunner.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  Headless Monte Carlo runner.  Plays a number of games of a fixed
+//  size and mine count on every core, game i using seed firstSeed + i,
+//  with a MovePolicy choosing the moves.  Each thread reuses one
+//  minesweeper instance and one policy for all its games.
+//
+//  usage: java SimulationRunner rows cols mines games [firstSeed]
+//********************************************************************
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+public class SimulationRunner {
+    // games a thread claims at a time.
+    private static final int BATCH_GAMES = 256;
+    // latency histogram: 8 buckets per power of two up to 2^40 ns.
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int BUCKETS = 41 << SUB_BUCKET_BITS;
+
+    // board size and mine count.
+    private final int rows, cols, mines;
+    // seed of the first game.
+    private final long firstSeed;
+    // number of games to play.
+    private final long games;
+    // creates the policy of a thread, given a seed for its guesses.
+    private final LongFunction<MovePolicy> policies;
+    // number of threads.
+    private final int threads;
+
+    //-----------------------------------------------------------------
+    //  Constructor.  Runs on every core.
+    //-----------------------------------------------------------------
+    public SimulationRunner(int rows, int cols, int mines, long firstSeed, long games,
+                            LongFunction<MovePolicy> policies) {
+        this(rows, cols, mines, firstSeed, games, policies, Runtime.getRuntime().availableProcessors());
+    }
+
+    //-----------------------------------------------------------------
+    //  Constructor with a thread count.
+    //-----------------------------------------------------------------
+    public SimulationRunner(int rows, int cols, int mines, long firstSeed, long games,
+                            LongFunction<MovePolicy> policies, int threads) {
+        this.rows = rows;
+        this.cols = cols;
+        this.mines = mines;
+        this.firstSeed = firstSeed;
+        this.games = games;
+        this.policies = policies;
+        this.threads = Math.max(1, threads);
+    }
+
+    //-----------------------------------------------------------------
+    //  Plays all games and returns the totals.
+    //-----------------------------------------------------------------
+    public SimulationReport run() {
+        AtomicLong nextGame = new AtomicLong();
+        Worker[] workers = new Worker[this.threads];
+
+        for (int t = 0; t < this.threads; t++) {
+            workers[t] = new Worker(nextGame, this.firstSeed ^ (t + 1) * 0x9E3779B97F4A7C15L);
+        }
+
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(this.threads);
+
+        try {
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(workers);
+                }
+            });
+        } finally {
+            pool.shutdown();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        long wins = 0, losses = 0, moves = 0, played = 0;
+        long[] histogram = new long[BUCKETS];
+
+        for (Worker worker : workers) {
+            played += worker.games;
+            wins += worker.wins;
+            losses += worker.losses;
+            moves += worker.moves;
+
+            for (int b = 0; b < BUCKETS; b++) {
+                histogram[b] += worker.histogram[b];
+            }
+        }
+
+        long[] percentiles = {
+                percentile(histogram, moves, 0.5),
+                percentile(histogram, moves, 0.9),
+                percentile(histogram, moves, 0.99),
+                percentile(histogram, moves, 0.999),
+                percentile(histogram, moves, 1.0)
+        };
+
+        return new SimulationReport(played, wins, losses, moves, elapsed, percentiles);
+    }
+
+    //-----------------------------------------------------------------
+    //  Histogram bucket of a latency.
+    //-----------------------------------------------------------------
+    private static int bucket(long nanos) {
+        if (nanos < (1L << SUB_BUCKET_BITS)) {
+            return (int) Math.max(0, nanos);
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & ((1 << SUB_BUCKET_BITS) - 1);
+
+        return Math.min(BUCKETS - 1, ((exponent - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) | sub);
+    }
+
+    //-----------------------------------------------------------------
+    //  Lowest latency of a bucket.
+    //-----------------------------------------------------------------
+    private static long bucketValue(int bucket) {
+        int exponent = (bucket >>> SUB_BUCKET_BITS) + SUB_BUCKET_BITS - 1;
+        int sub = bucket & ((1 << SUB_BUCKET_BITS) - 1);
+
+        if (bucket < (1 << SUB_BUCKET_BITS)) {
+            return bucket;
+        }
+
+        return (1L << exponent) | ((long) sub << (exponent - SUB_BUCKET_BITS));
+    }
+
+    //-----------------------------------------------------------------
+    //  Latency at fraction of the recorded moves.
+    //-----------------------------------------------------------------
+    private static long percentile(long[] histogram, long count, double fraction) {
+        long rank = Math.max(1, (long) Math.ceil(count * fraction));
+        long seen = 0;
+
+        for (int b = 0; b < histogram.length; b++) {
+            seen += histogram[b];
+
+            if (seen >= rank) {
+                return bucketValue(b);
+            }
+        }
+
+        return 0;
+    }
+
+    //-----------------------------------------------------------------
+    //  Plays games until none are left to claim.  Totals are kept per
+    //  worker and added up once all are done.
+    //-----------------------------------------------------------------
+    private class Worker extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final AtomicLong nextGame;
+        private final long policySeed;
+
+        long games, wins, losses, moves;
+        final long[] histogram = new long[BUCKETS];
+
+        Worker(AtomicLong nextGame, long policySeed) {
+            this.nextGame = nextGame;
+            this.policySeed = policySeed;
+        }
+
+        @Override
+        protected void compute() {
+            int rows = SimulationRunner.this.rows;
+            int cols = SimulationRunner.this.cols;
+            int mineCount = SimulationRunner.this.mines;
+            long total = SimulationRunner.this.games;
+            // a policy that never ends a game is stopped here.
+            int moveLimit = 4 * rows * cols;
+
+            minesweeper game = new minesweeper(rows, cols, mineCount, SimulationRunner.this.firstSeed);
+            MovePolicy policy = SimulationRunner.this.policies.apply(this.policySeed);
+            int[] move = new int[3];
+            long first;
+
+            while ((first = this.nextGame.getAndAdd(BATCH_GAMES)) < total) {
+                long last = Math.min(total, first + BATCH_GAMES);
+
+                for (long g = first; g < last; g++) {
+                    game.newGame(SimulationRunner.this.firstSeed + g);
+                    policy.newGame(game, game.getMineCount());
+
+                    for (int m = 0; m < moveLimit && game.getGameStatus() == GameStatus.PLAY; m++) {
+                        long start = System.nanoTime();
+
+                        if (!policy.nextMove(game, move)) {
+                            break;
+                        }
+                        game.markTile(move[0], move[1], move[2]);
+
+                        this.histogram[bucket(System.nanoTime() - start)]++;
+                        this.moves++;
+                    }
+
+                    this.games++;
+
+                    if (game.getGameStatus() == GameStatus.WIN) {
+                        this.wins++;
+                    } else if (game.getGameStatus() == GameStatus.LOSE) {
+                        this.losses++;
+                    }
+                }
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Runs a simulation with the solver policy and prints the report.
+    //-----------------------------------------------------------------
+    public static void main(String[] args) {
+        if (args.length < 4) {
+            System.out.println("usage: java SimulationRunner rows cols mines games [firstSeed]");
+            return;
+        }
+
+        int rows = Integer.parseInt(args[0]);
+        int cols = Integer.parseInt(args[1]);
+        int mines = Integer.parseInt(args[2]);
+        long games = Long.parseLong(args[3]);
+        long firstSeed = args.length > 4 ? Long.parseLong(args[4]) : 1;
+
+        SimulationRunner runner = new SimulationRunner(rows, cols, mines, firstSeed, games, SolverMovePolicy::new);
+        System.out.println(runner.run());
+    }
+}
@@ -0,0 +1,152 @@
+//********************************************************************
+//  SolverMovePolicy.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  Move policy playing the way a careful player does: open the
+//  middle tile, then open every tile MinesweeperSolver proves safe,
+//  flag the tiles it proves mined, and open a random closed tile
+//  when nothing is proven.
+//********************************************************************
+
+import java.util.SplittableRandom;
+
+public class SolverMovePolicy implements MovePolicy {
+    // chooses the tile to open when a guess is needed.
+    private final SplittableRandom random;
+
+    // solver, reused from game to game.
+    private MinesweeperSolver solver;
+    // board width of the current game.
+    private int cols;
+    // mines on the board and flags placed so far.
+    private int mineCount, flags;
+    // true until the first move of a game.
+    private boolean firstMove;
+
+    // cells proven safe, taken in order.
+    private int[] safe = new int[0];
+    private int nextSafe;
+    // cells proven mined, taken in order.
+    private int[] mines = new int[0];
+    private int nextMine;
+
+    //-----------------------------------------------------------------
+    //  Constructor.  Guesses are drawn from seed.
+    //-----------------------------------------------------------------
+    public SolverMovePolicy(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    //-----------------------------------------------------------------
+    //  Starts solving a new game.
+    //-----------------------------------------------------------------
+    public void newGame(GameData game, int mineCount) {
+        if (this.solver == null) {
+            this.solver = new MinesweeperSolver(game);
+        } else {
+            this.solver.reset(game);
+        }
+        this.cols = game.getCols();
+        this.mineCount = mineCount;
+        this.flags = 0;
+        this.firstMove = true;
+        this.nextSafe = this.safe.length;
+        this.nextMine = this.mines.length;
+    }
+
+    //-----------------------------------------------------------------
+    //  Next move: a proven safe tile, else a proven mine to flag,
+    //  else a guess.
+    //-----------------------------------------------------------------
+    public boolean nextMove(GameData game, int[] move) {
+        if (this.firstMove) {
+            this.firstMove = false;
+            return setMove(move, game.getRows() / 2, this.cols / 2, Constants.OPENED);
+        }
+
+        this.solver.cellsChanged(game.getChangedCells());
+
+        if (this.nextSafe == this.safe.length && this.nextMine == this.mines.length) {
+            this.solver.solve();
+            this.safe = this.solver.getSafeCells();
+            this.mines = this.solver.getMineCells();
+            this.nextSafe = 0;
+            this.nextMine = 0;
+        }
+
+        while (this.nextSafe < this.safe.length) {
+            int index = this.safe[this.nextSafe++];
+
+            // skip tiles opened by a blank area since they were proven.
+            if (game.getTiles(index / this.cols, index % this.cols) != Constants.OPENED) {
+                return setMove(move, index / this.cols, index % this.cols, Constants.OPENED);
+            }
+        }
+
+        while (this.nextMine < this.mines.length) {
+            int index = this.mines[this.nextMine++];
+
+            if (game.getTiles(index / this.cols, index % this.cols) != Constants.FLAG) {
+                this.flags++;
+                return setMove(move, index / this.cols, index % this.cols, Constants.FLAG);
+            }
+        }
+
+        return guess(game, move);
+    }
+
+    //-----------------------------------------------------------------
+    //  Flags the last closed tiles once only mines can be left,
+    //  otherwise opens a random closed tile not proven mined.
+    //-----------------------------------------------------------------
+    private boolean guess(GameData game, int[] move) {
+        int rows = game.getRows();
+        int closed = 0;
+
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < this.cols; col++) {
+                int tile = game.getTiles(row, col);
+
+                if (tile != Constants.OPENED && tile != Constants.FLAG) {
+                    closed++;
+                }
+            }
+        }
+
+        if (closed == 0) {
+            return false;
+        }
+
+        boolean onlyMines = closed == this.mineCount - this.flags;
+        int pick = this.random.nextInt(closed);
+
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < this.cols; col++) {
+                int tile = game.getTiles(row, col);
+
+                if (tile != Constants.OPENED && tile != Constants.FLAG && pick-- == 0) {
+                    if (onlyMines) {
+                        this.flags++;
+                        return setMove(move, row, col, Constants.FLAG);
+                    }
+
+                    return setMove(move, row, col, Constants.OPENED);
+                }
+            }
+        }
+
+        return false;
+    }
+
+    //-----------------------------------------------------------------
+    //  Writes a move, returns true.
+    //-----------------------------------------------------------------
+    private static boolean setMove(int[] move, int row, int col, int tile) {
+        move[0] = row;
+        move[1] = col;
+        move[2] = tile;
+        return true;
+    }
+}
@@ -0,0 +1,1470 @@
+//********************************************************************
+//  minesweeper.java       Author: original unknown
+//                         David J. Gardner
+//
+//  Represents one die (singular of dice) with faces showing values
+//  between 1 and 6 with both integer value and graphical image.
+//
+//  4/29/18 David J. Gardner - Implemented required methods
+//********************************************************************
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+public class minesweeper implements GameData {
+
+    /**
+     * boards with at least this many cells are generated in
+     * parallel row stripes
+     */
+    private static final long PARALLEL_THRESHOLD = 1 << 21;
+
+    /**
+     * number of rows in each stripe of a parallel generated board
+     */
+    private static final int STRIPE_ROWS = 64;
+
+    /**
+     * number of candidate boards noGuess tries before giving up
+     */
+    private static final int NO_GUESS_ATTEMPTS = 100_000;
+
+    /**
+     * largest packed cell array, board and border, the JVM allocates
+     */
+    private static final long MAX_CELLS = Integer.MAX_VALUE - 8;
+
+    /**
+     * board views rendered by the toString and write methods
+     */
+    private static final int MINES_VIEW = 0, TILES_VIEW = 1, BOARD_VIEW = 2;
+
+    /**
+     * packed board cells, one byte per cell indexed by cellIndex(row, col)<br>
+     * the board is surrounded by a one cell border of opened blank
+     * cells so that neighbour walks never need bounds checks<br>
+     * mine and clue values, 9 - mine, 0-8 clue values<br>
+     * tile values 0 - open, 1 - closed,<br>
+     * 2 - question, 3 - mine<br>
+     * see BoardCells for the bit layout
+     */
+    private byte[] cells;
+
+    /**
+     * board dimensions
+     */
+    private int rows, cols;
+
+    /**
+     * row length of the packed cells, including the border
+     */
+    private int stride;
+
+    /**
+     * index offsets of the eight neighbours of a cell
+     */
+    private int[] neighbours;
+
+    /**
+     * Level 2 - game status win, lose, play
+     */
+    private GameStatus status;
+
+    /**
+     * listeners called when the game status changes
+     */
+    private final List<GameStatusListener> statusListeners = new ArrayList<>();
+
+    /**
+     * work queue for opening blank areas, allocated on first use
+     * and grown to the size of the largest blank area opened
+     */
+    private int[] floodQueue;
+
+    /**
+     * Level 2 - game status counters, updated on every tile change<br>
+     * mineCount - mines on the board<br>
+     * unopenedSafeTiles - tiles without a mine that are not opened<br>
+     * flagsPlaced - tiles marked with a flag<br>
+     * wrongFlags - flagged tiles that are not a mine
+     */
+    private int mineCount, unopenedSafeTiles, flagsPlaced, wrongFlags;
+
+    /**
+     * running count of tile value changes, used to report
+     * the cells changed by a batch of moves
+     */
+    private int tileChanges;
+
+    /**
+     * cell indexes whose tile value changed during the last markTile,
+     * grown on demand to the largest number of changes in one move
+     */
+    private int[] changedCells = new int[16];
+
+    /**
+     * number of entries in use in changedCells
+     */
+    private int changedCount;
+
+    /**
+     * seed the mines were placed from
+     */
+    private long seed;
+
+    /**
+     * default constructor<br>
+     * board size 9 x 9<br>
+     * create mines and tile arrays<br>
+     * place mines<br>
+     * calculate clues<br>
+     * (*)set game status to play<br>
+     */
+    public minesweeper() {
+        this(9, 9);
+    }
+
+    /**
+     * alternate constructor
+     * use specifies board size<br>
+     * create mines and tile arrays<br>
+     * place mines<br>
+     * calculate clues<br>
+     * (*)set game status to play<br>
+     *
+     * @param newRows number of rows for grid<br>
+     * @param newCols number of columns for grid<br>
+     */
+    public minesweeper(int newRows, int newCols) {
+        this(newRows, newCols, BoardEngine.CELLWISE);
+    }
+
+    /**
+     * alternate constructor
+     * use specifies board size and generation engine<br>
+     * both engines produce the same mine and clue values,
+     * BITBOARD computes the clues 64 cells at a time<br>
+     *
+     * @param newRows number of rows for grid<br>
+     * @param newCols number of columns for grid<br>
+     * @param engine  board generation engine<br>
+     */
+    public minesweeper(int newRows, int newCols, BoardEngine engine) {
+        this(newRows, newCols, defaultMineCount(newRows, newCols),
+                ThreadLocalRandom.current().nextLong(), engine);
+    }
+
+    /**
+     * alternate constructor
+     * use specifies board size, number of mines and seed<br>
+     * the same arguments always produce the same board<br>
+     * number of mines is limited to 0 ... rows * cols<br>
+     *
+     * @param newRows  number of rows for grid<br>
+     * @param newCols  number of columns for grid<br>
+     * @param newMines number of mines to place<br>
+     * @param newSeed  seed for mine placement<br>
+     */
+    public minesweeper(int newRows, int newCols, int newMines, long newSeed) {
+        this(newRows, newCols, newMines, newSeed, BoardEngine.CELLWISE);
+    }
+
+    /**
+     * alternate constructor
+     * use specifies board size, number of mines, seed
+     * and generation engine<br>
+     * the same arguments always produce the same board<br>
+     * number of mines is limited to 0 ... rows * cols<br>
+     *
+     * @param newRows  number of rows for grid<br>
+     * @param newCols  number of columns for grid<br>
+     * @param newMines number of mines to place<br>
+     * @param newSeed  seed for mine placement<br>
+     * @param engine   board generation engine<br>
+     */
+    public minesweeper(int newRows, int newCols, int newMines, long newSeed, BoardEngine engine) {
+        initGame(newRows, newCols, newMines, newSeed, engine);
+    }
+
+    /**
+     * restore constructor
+     * recreates the game saved in a snapshot<br>
+     * mines and tiles come from the snapshot planes,
+     * clues and the status counters are recalculated from them<br>
+     * status listeners are not part of a snapshot<br>
+     * the board and its border must fit in one array<br>
+     *
+     * @param snapshot saved game<br>
+     * @throws IllegalArgumentException if the board is too large
+     */
+    public minesweeper(GameSnapshot snapshot) {
+        if ((snapshot.getRows() + 2L) * (snapshot.getCols() + 2L) > MAX_CELLS) {
+            throw new IllegalArgumentException("snapshot board too large: "
+                    + snapshot.getRows() + " x " + snapshot.getCols());
+        }
+
+        allocateCells(snapshot.getRows(), snapshot.getCols());
+
+        //mines go through the bitboard, which writes the clues
+        //and closed tiles 64 cells at a time.  bits past the last
+        //cell are ignored
+        MineBitboard bitboard = new MineBitboard(rows, cols);
+        long[] minePlane = snapshot.getMinePlane();
+        long cellTotal = (long) rows * cols;
+
+        mineCount = 0;
+
+        for (int w = 0; w < minePlane.length; w++) {
+            for (long bits = minePlane[w]; bits != 0; bits &= bits - 1) {
+                long i = ((long) w << 6) + Long.numberOfTrailingZeros(bits);
+
+                if (i < cellTotal) {
+                    bitboard.setMine((int) (i / cols), (int) (i % cols));
+                    mineCount++;
+                }
+            }
+        }
+
+        bitboard.writeCells(cells, cellIndex(0, 0), stride, 0, rows, Constants.CLOSED);
+
+        //then every tile that is not closed, counting as they go;
+        //the counters are not taken from the snapshot, so they
+        //always agree with the planes
+        long[] tilePlane = snapshot.getTilePlane();
+        int i = 0;
+        int openedSafeTiles = 0;
+        boolean openedMine = false;
+
+        flagsPlaced = 0;
+        wrongFlags = 0;
+
+        for (int row = 0; row < rows; row++) {
+            int index = cellIndex(row, 0);
+
+            for (int col = 0; col < cols; col++, index++, i++) {
+                int tile = (int) (tilePlane[i >>> 5] >>> ((i & 31) << 1)) & 3;
+
+                if (tile != Constants.CLOSED) {
+                    boolean isMine = mine(index) == Constants.MINE;
+
+                    cells[index] = BoardCells.withTile(cells[index], tile);
+
+                    if (tile == Constants.FLAG) {
+                        flagsPlaced++;
+                        if (!isMine) {
+                            wrongFlags++;
+                        }
+                    } else if (tile == Constants.OPENED) {
+                        if (isMine) {
+                            openedMine = true;
+                        } else {
+                            openedSafeTiles++;
+                        }
+                    }
+                }
+            }
+        }
+
+        seed = snapshot.getSeed();
+        unopenedSafeTiles = (int) (cellTotal - mineCount - openedSafeTiles);
+        status = snapshot.getStatus();
+
+        //a game still in play whose tiles say otherwise ends now
+        if (status == GameStatus.PLAY && openedMine) {
+            status = GameStatus.LOSE;
+        }
+        checkGameStatus();
+    }
+
+    /**
+     * safe start constructor
+     * no mine is placed on safeRow,safeCol or next to it,
+     * so opening it first always opens a blank area<br>
+     * number of mines is limited to the cells left<br>
+     *
+     * @param newRows  number of rows for grid<br>
+     * @param newCols  number of columns for grid<br>
+     * @param newMines number of mines to place<br>
+     * @param newSeed  seed for mine placement<br>
+     * @param safeRow  row of the safe first click<br>
+     * @param safeCol  column of the safe first click<br>
+     */
+    private minesweeper(int newRows, int newCols, int newMines, long newSeed, int safeRow, int safeCol) {
+        allocateCells(newRows, newCols);
+        resetTiles(0, newRows);
+
+        int fromRow = Math.max(0, safeRow - 1);
+        int toRow = Math.min(newRows - 1, safeRow + 1);
+        int fromCol = Math.max(0, safeCol - 1);
+        int toCol = Math.min(newCols - 1, safeCol + 1);
+        int allowed = newRows * newCols - (toRow - fromRow + 1) * (toCol - fromCol + 1);
+
+        mineCount = Math.max(0, Math.min(newMines, allowed));
+        seed = newSeed;
+
+        // Floyd's sampling over the cells outside the safe area,
+        // see placeMines.
+        SplittableRandom random = new SplittableRandom(newSeed);
+
+        for (int j = allowed - mineCount; j < allowed; j++) {
+            int pick = allowedCell(random.nextInt(j + 1), fromRow, toRow, fromCol, toCol);
+
+            if (mine(pick) == Constants.MINE) {
+                pick = allowedCell(j, fromRow, toRow, fromCol, toCol);
+            }
+
+            cells[pick] = BoardCells.withMine(cells[pick], Constants.MINE);
+        }
+
+        calculateClues(0, rows);
+
+        //reset status counters
+        unopenedSafeTiles = newRows * newCols - mineCount;
+        flagsPlaced = 0;
+        wrongFlags = 0;
+
+        //set game status
+        status = GameStatus.PLAY;
+    }
+
+    /**
+     * no-guess factory<br>
+     * finds a board that is cleared by opening safeRow,safeCol first
+     * and then only tiles MinesweeperSolver proves safe, so it never
+     * needs a guess<br>
+     * candidate boards are generated and solved on every core; once
+     * one qualifies, the candidates after it are abandoned. the board
+     * returned is the first qualifying candidate in attempt order,
+     * so the same arguments always give the same board<br>
+     *
+     * @param newRows  number of rows for grid
+     * @param newCols  number of columns for grid
+     * @param newMines number of mines to place
+     * @param safeRow  row of the first click
+     * @param safeCol  column of the first click
+     * @param newSeed  seed the candidate seeds are derived from
+     * @return the board and the attempts and time it took
+     * @throws IllegalStateException if no candidate qualifies
+     */
+    public static NoGuessResult noGuess(int newRows, int newCols, int newMines,
+                                        int safeRow, int safeCol, long newSeed) {
+        if (newRows < 1 || newCols < 1 || safeRow < 0 || safeRow >= newRows
+                || safeCol < 0 || safeCol >= newCols) {
+            throw new IllegalArgumentException("safe cell is not on the board");
+        }
+
+        long start = System.nanoTime();
+        AtomicInteger nextAttempt = new AtomicInteger();
+        AtomicInteger checked = new AtomicInteger();
+        // lowest attempt found to qualify so far.
+        AtomicInteger found = new AtomicInteger(Integer.MAX_VALUE);
+        int workers = Runtime.getRuntime().availableProcessors();
+
+        ForkJoinPool.commonPool().invoke(new StripeTask(0, workers, worker -> {
+            int attempt;
+
+            while ((attempt = nextAttempt.getAndIncrement()) < NO_GUESS_ATTEMPTS
+                    && attempt < found.get()) {
+                checked.incrementAndGet();
+
+                if (solvesWithoutGuessing(newRows, newCols, newMines, safeRow, safeCol,
+                        candidateSeed(newSeed, attempt), attempt, found)) {
+                    found.accumulateAndGet(attempt, Math::min);
+                }
+            }
+        }));
+
+        if (found.get() == Integer.MAX_VALUE) {
+            throw new IllegalStateException("no board without guesses in "
+                    + NO_GUESS_ATTEMPTS + " attempts");
+        }
+
+        minesweeper game = new minesweeper(newRows, newCols, newMines,
+                candidateSeed(newSeed, found.get()), safeRow, safeCol);
+
+        return new NoGuessResult(game, found.get() + 1, checked.get(), System.nanoTime() - start);
+    }
+
+    /**
+     * seed of candidate board attempt
+     *
+     * @param seed    seed given to noGuess
+     * @param attempt candidate number
+     * @return seed for the candidate's mine placement
+     */
+    private static long candidateSeed(long seed, int attempt) {
+        return seed + attempt * 0x9E3779B97F4A7C15L;
+    }
+
+    /**
+     * plays a candidate board with the solver<br>
+     * gives up early once a lower attempt has qualified
+     *
+     * @param attempt candidate number
+     * @param found   lowest attempt found to qualify so far
+     * @return true if every safe tile was opened without a guess,
+     * false if the solver gets stuck or the game is lost
+     */
+    private static boolean solvesWithoutGuessing(int newRows, int newCols, int newMines,
+                                                 int safeRow, int safeCol, long candidateSeed,
+                                                 int attempt, AtomicInteger found) {
+        minesweeper game = new minesweeper(newRows, newCols, newMines, candidateSeed, safeRow, safeCol);
+        game.markTile(safeRow, safeCol, Constants.OPENED);
+
+        MinesweeperSolver solver = new MinesweeperSolver(game);
+
+        // a lost game ignores moves, so the solver would repeat itself.
+        while (game.getGameStatus() == GameStatus.PLAY
+                && game.unopenedSafeTiles > 0 && found.get() > attempt) {
+            solver.solve();
+            int[] safe = solver.getSafeCells();
+
+            if (safe.length == 0) {
+                return false;
+            }
+
+            for (int index : safe) {
+                game.markTile(index / newCols, index % newCols, Constants.OPENED);
+                solver.cellsChanged(game.getChangedCells());
+            }
+        }
+
+        return game.getGameStatus() != GameStatus.LOSE && game.unopenedSafeTiles == 0;
+    }
+
+    /**
+     * cell index of the k-th cell, in row order, outside the
+     * rectangle fromRow..toRow x fromCol..toCol
+     *
+     * @param k index among the cells outside the rectangle
+     * @return index into the packed cells
+     */
+    private int allowedCell(int k, int fromRow, int toRow, int fromCol, int toCol) {
+        int width = toCol - fromCol + 1;
+        int bandCells = (toRow - fromRow + 1) * (cols - width);
+
+        // rows above the rectangle.
+        if (k < fromRow * cols) {
+            return cellIndex(k / cols, k % cols);
+        }
+        k -= fromRow * cols;
+
+        // rows beside the rectangle.
+        if (k < bandCells) {
+            int col = k % (cols - width);
+            return cellIndex(fromRow + k / (cols - width), col < fromCol ? col : col + width);
+        }
+        k -= bandCells;
+
+        // rows below the rectangle.
+        return cellIndex(toRow + 1 + k / cols, k % cols);
+    }
+
+    /**
+     * starts a new game of the same size and mine count<br>
+     * the board is the one the constructor gives for newSeed, but
+     * the packed cells are reused instead of allocated again<br>
+     * status listeners are kept and told of the change back to play
+     *
+     * @param newSeed seed for mine placement
+     */
+    public void newGame(long newSeed) {
+        generate(null, newSeed);
+        setStatus(GameStatus.PLAY);
+    }
+
+    /**
+     * saves the game state<br>
+     * the snapshot does not change as the game goes on
+     *
+     * @return snapshot of the board, status and counters
+     */
+    public GameSnapshot snapshot() {
+        long cellTotal = (long) rows * cols;
+        long[] minePlane = new long[GameSnapshot.minePlaneLength(cellTotal)];
+        long[] tilePlane = new long[GameSnapshot.tilePlaneLength(cellTotal)];
+        int i = 0;
+
+        for (int row = 0; row < rows; row++) {
+            int index = cellIndex(row, 0);
+
+            for (int col = 0; col < cols; col++, index++, i++) {
+                byte cell = cells[index];
+
+                if (BoardCells.mine(cell) == Constants.MINE) {
+                    minePlane[i >>> 6] |= 1L << i;
+                }
+                tilePlane[i >>> 5] |= (long) BoardCells.tile(cell) << ((i & 31) << 1);
+            }
+        }
+
+        return new GameSnapshot(rows, cols, seed, status,
+                mineCount, unopenedSafeTiles, flagsPlaced, wrongFlags, minePlane, tilePlane);
+    }
+
+    /**
+     * number of mines for a board of the given size and density
+     *
+     * @param rows    number of rows for grid
+     * @param cols    number of columns for grid
+     * @param density fraction of cells holding a mine, 0.0 ... 1.0
+     * @return number of mines, rounded to the nearest cell
+     */
+    public static int mineCountFor(int rows, int cols, double density) {
+        double clamped = Math.max(0.0, Math.min(1.0, density));
+
+        return (int) Math.round((double) rows * cols * clamped);
+    }
+
+    /**
+     * default number of mines for a board of the given size<br>
+     * number of mines = (number of columns * number rows) / 10 + 1<br>
+     * minimum number of mines = 1<br>
+     *
+     * @param rows number of rows for grid
+     * @param cols number of columns for grid
+     * @return number of mines
+     */
+    private static int defaultMineCount(int rows, int cols) {
+        return Math.max(1, rows * cols / 10 + 1);
+    }
+
+    /**
+     * Level 2 - game status
+     *
+     * @return "play", "win", or "lose"
+     */
+    public String getStatus() {
+        return status.toString();
+    }
+
+    /**
+     * Level 2 - typed game status
+     *
+     * @return PLAY, WIN or LOSE
+     */
+    public GameStatus getGameStatus() {
+        return status;
+    }
+
+    /**
+     * Level 2 - ends a game in play as lost, e.g. when its timer
+     * runs out<br>
+     * the board then shows the mines as after any loss and further
+     * moves are ignored; a game already over is left alone
+     */
+    public void forfeit() {
+        if (this.status == GameStatus.PLAY) {
+            setStatus(GameStatus.LOSE);
+        }
+    }
+
+    /**
+     * registers a listener called on every game status transition
+     *
+     * @param listener status listener
+     */
+    public void addStatusListener(GameStatusListener listener) {
+        statusListeners.add(listener);
+    }
+
+    /**
+     * removes a previously registered status listener
+     *
+     * @param listener status listener
+     */
+    public void removeStatusListener(GameStatusListener listener) {
+        statusListeners.remove(listener);
+    }
+
+    /**
+     * changes the game status and notifies the status listeners
+     *
+     * @param newStatus new game status
+     */
+    private void setStatus(GameStatus newStatus) {
+        GameStatus oldStatus = this.status;
+
+        if (oldStatus != newStatus) {
+            this.status = newStatus;
+
+            for (int i = 0; i < statusListeners.size(); i++) {
+                statusListeners.get(i).statusChanged(this, oldStatus, newStatus);
+            }
+        }
+    }
+
+    /**
+     * number of mines on the board
+     *
+     * @return number of mines
+     */
+    public int getMineCount() {
+        return mineCount;
+    }
+
+    /**
+     * seed the mines were placed from
+     *
+     * @return mine placement seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * number of rows for board
+     *
+     * @return number of rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * number of columns for board
+     *
+     * @return number of columns
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * value of the mines array at r,c<br>
+     * -1 is returned if invalid r,c
+     *
+     * @param row row index
+     * @param col column index
+     * @return value of mines array, -1 if invalid
+     */
+    public int getMines(int row, int col) {
+        return validIndex(row, col) ? mine(cellIndex(row, col)) : -1;
+    }
+
+    /**
+     * value of the tiles array at r,c
+     * -1 is returned if invalid r,c<br>
+     *
+     * @param row row index
+     * @param col column index
+     * @return value of tiles array, -1 if invalid
+     */
+    public int getTiles(int row, int col) {
+        return validIndex(row, col) ? tile(cellIndex(row, col)) : -1;
+    }
+
+    /**
+     * mark tile - open tile, close tile, <br>
+     * flag tile as mine, set tile as question mark, close tile<br>
+     * <br>
+     * Level 1 - Requirements<br>
+     * - invalid row,c values must be ignored<br>
+     * - a tile that is opened must stay open<br>
+     * - a tile that is marked as a flag (ie. tile[][] value 3) can not be opened<br>
+     * <br>
+     * Level 2 - Requirements<br>
+     * - tile values can only change when game status is "play"<br>
+     * - game status must be updated after a tile is opened<br>
+     * <br>
+     *
+     * @param row  row index<br>
+     * @param col  column index<br>
+     * @param tile 0 - open, 1 - close, 2 - question, 3 - flag<br>
+     */
+    public void markTile(int row, int col, int tile) {
+        this.changedCount = 0;
+
+        if (validIndex(row, col)) {
+            int index = cellIndex(row, col);
+            int currentTileValue = tile(index);
+
+            if (this.status == GameStatus.PLAY) {
+                if (tile == Constants.OPENED) {
+                    if (currentTileValue != Constants.OPENED && currentTileValue != Constants.FLAG) {
+                        setTile(index, Constants.OPENED);
+                        if (mine(index) == Constants.MINE) {
+                            setStatus(GameStatus.LOSE);
+                        } else if (mine(index) == Constants.OPENED) {
+                            openBlankArea(index);
+                        }
+                    }
+                } else if (currentTileValue != Constants.OPENED
+                        && tile >= Constants.CLOSED && tile <= Constants.FLAG) {
+                    setTile(index, tile);
+                }
+            }
+        }
+
+        checkGameStatus();
+    }
+
+    /**
+     * mark tiles - applies a batch of moves in order<br>
+     * moves are (row, col, tile) triples, move i is
+     * moves[3 * i], moves[3 * i + 1], moves[3 * i + 2]<br>
+     * each move follows the markTile rules; the batch stops at the
+     * move that ends the game and a trailing partial triple is ignored<br>
+     *
+     * @param moves (row, col, tile) triples
+     * @return moves applied, cells changed, final status and
+     * the index of the move that ended the game
+     */
+    public MoveBatchResult markTiles(int[] moves) {
+        int changesBefore = this.tileChanges;
+        int moveCount = moves.length / 3;
+        int applied = 0;
+        int endingMove = -1;
+
+        while (applied < moveCount && this.status == GameStatus.PLAY) {
+            int move = applied * 3;
+            markTile(moves[move], moves[move + 1], moves[move + 2]);
+            applied++;
+
+            if (this.status != GameStatus.PLAY) {
+                endingMove = applied - 1;
+            }
+        }
+
+        return new MoveBatchResult(applied, this.tileChanges - changesBefore, this.status, endingMove);
+    }
+
+    /**
+     * number of cells whose tile value changed during the last
+     * markTile call, without building the getChangedCells array
+     *
+     * @return number of changed cells
+     */
+    public int getChangedCount() {
+        return this.changedCount;
+    }
+
+    /**
+     * cells whose tile value changed during the last markTile call<br>
+     * after markTiles this covers the last move applied only<br>
+     *
+     * @return changed cells as row * cols + col indexes
+     */
+    public int[] getChangedCells() {
+        int[] result = new int[this.changedCount];
+
+        for (int i = 0; i < this.changedCount; i++) {
+            int index = this.changedCells[i];
+            int row = index / this.stride - 1;
+            int col = index % this.stride - 1;
+
+            result[i] = row * this.cols + col;
+        }
+
+        return result;
+    }
+
+    /**
+     * accessors only read the cell array, see GameData<br>
+     *
+     * @return true
+     */
+    public boolean supportsConcurrentReads() {
+        return true;
+    }
+
+    /**
+     * sets the tile value of a cell and keeps the
+     * game status counters in step with the change
+     *
+     * @param index cell index, see cellIndex
+     * @param tile  new tile value
+     */
+    private void setTile(int index, int tile) {
+        byte cell = this.cells[index];
+        int currentTileValue = BoardCells.tile(cell);
+        boolean isMine = BoardCells.mine(cell) == Constants.MINE;
+
+        if (currentTileValue == Constants.FLAG) {
+            this.flagsPlaced--;
+            if (!isMine) {
+                this.wrongFlags--;
+            }
+        }
+
+        if (tile == Constants.FLAG) {
+            this.flagsPlaced++;
+            if (!isMine) {
+                this.wrongFlags++;
+            }
+        } else if (tile == Constants.OPENED && !isMine) {
+            this.unopenedSafeTiles--;
+        }
+
+        if (currentTileValue != tile) {
+            this.tileChanges++;
+
+            if (this.changedCount == this.changedCells.length) {
+                this.changedCells = Arrays.copyOf(this.changedCells, this.changedCount * 2);
+            }
+            this.changedCells[this.changedCount++] = index;
+        }
+
+        this.cells[index] = BoardCells.withTile(cell, tile);
+    }
+
+    /**
+     * index of row,col in the packed cells
+     *
+     * @param row row index
+     * @param col column index
+     * @return cell index
+     */
+    private int cellIndex(int row, int col) {
+        return (row + 1) * this.stride + col + 1;
+    }
+
+    /**
+     * mine or clue value of a cell
+     *
+     * @param index cell index, see cellIndex
+     * @return mine or clue value
+     */
+    private int mine(int index) {
+        return BoardCells.mine(this.cells[index]);
+    }
+
+    /**
+     * tile value of a cell
+     *
+     * @param index cell index, see cellIndex
+     * @return tile value
+     */
+    private int tile(int index) {
+        return BoardCells.tile(this.cells[index]);
+    }
+
+    /**
+     * opens the blank area surrounding an opened blank tile<br>
+     * uses an explicit work queue instead of recursion so that
+     * the stack depth stays constant regardless of board size<br>
+     * each tile is queued at most once; it is opened as it is queued
+     *
+     * @param start cell index of the opened blank tile
+     */
+    private void openBlankArea(int start) {
+        if (this.floodQueue == null) {
+            this.floodQueue = new int[64];
+        }
+
+        int[] neighbours = this.neighbours;
+        int[] queue = this.floodQueue;
+        int head = 0;
+        int tail = 0;
+
+        queue[tail++] = start;
+
+        while (head < tail) {
+            int index = queue[head++];
+
+            for (int offset : neighbours) {
+                int thisIndex = index + offset;
+                int tile = tile(thisIndex);
+
+                // opened tiles stay open, flagged tiles can not be opened.
+                // border cells are opened, so the walk stops at the edges.
+                if (tile == Constants.OPENED || tile == Constants.FLAG) {
+                    continue;
+                }
+
+                setTile(thisIndex, Constants.OPENED);
+
+                // only blank tiles keep the area growing.
+                if (mine(thisIndex) == Constants.OPENED) {
+                    if (tail == queue.length) {
+                        queue = Arrays.copyOf(queue, Math.min(tail * 2, this.cells.length));
+                        this.floodQueue = queue;
+                    }
+                    queue[tail++] = thisIndex;
+                }
+            }
+        }
+    }
+
+    /**
+     * Level 2 - updates game status from the tile counters<br>
+     * once no tile is left closed or question-marked, the game
+     * is won unless a flag was placed on a tile that is not a mine
+     */
+    private void checkGameStatus() {
+        if (this.status == GameStatus.PLAY && coveredTiles() == 0) {
+            setStatus(gameWon() ? GameStatus.WIN : GameStatus.LOSE);
+        }
+    }
+
+    /**
+     * number of tiles that are closed or question-marked<br>
+     * mines are never opened while the game is in play, so every
+     * tile that is neither an opened safe tile nor a flag is covered
+     *
+     * @return number of closed or question-marked tiles
+     */
+    private int coveredTiles() {
+        return this.unopenedSafeTiles + this.mineCount - this.flagsPlaced;
+    }
+
+    /**
+     * mines array as String
+     *
+     * @return mines array as a String
+     */
+    public String toStringMines() {
+        return new String(render(MINES_VIEW, true));
+    }
+
+    /**
+     * tiles array as String
+     *
+     * @return mines array as a String
+     */
+    public String toStringTiles() {
+        return new String(render(TILES_VIEW, true));
+    }
+
+    /**
+     * game board array as String
+     *
+     * @return game board as String
+     */
+    public String toStringBoard() {
+        return new String(render(BOARD_VIEW, false));
+    }
+
+    /**
+     * writes the mines array, as returned by toStringMines
+     *
+     * @param out destination for the text
+     * @throws IOException if out can not be written
+     */
+    public void writeMines(Appendable out) throws IOException {
+        write(MINES_VIEW, true, out);
+    }
+
+    /**
+     * writes the tiles array, as returned by toStringTiles
+     *
+     * @param out destination for the text
+     * @throws IOException if out can not be written
+     */
+    public void writeTiles(Appendable out) throws IOException {
+        write(TILES_VIEW, true, out);
+    }
+
+    /**
+     * writes the game board, as returned by toStringBoard
+     *
+     * @param out destination for the text
+     * @throws IOException if out can not be written
+     */
+    public void writeBoard(Appendable out) throws IOException {
+        write(BOARD_VIEW, false, out);
+    }
+
+    /**
+     * renders a view of the board into one exactly sized char array
+     *
+     * @param view            MINES_VIEW, TILES_VIEW or BOARD_VIEW
+     * @param leadingLinefeed true to start with a line feed
+     * @return rendered text
+     */
+    private char[] render(int view, boolean leadingLinefeed) {
+        int lead = leadingLinefeed ? 1 : 0;
+        char[] text = new char[lead + rows * (cols + 1)];
+
+        if (leadingLinefeed) {
+            text[0] = '\n';
+        }
+
+        for (int row = 0, offset = lead; row < rows; row++, offset += cols + 1) {
+            fillRow(view, row, text, offset);
+        }
+
+        return text;
+    }
+
+    /**
+     * writes a view of the board one row at a time,
+     * reusing a single row buffer
+     *
+     * @param view            MINES_VIEW, TILES_VIEW or BOARD_VIEW
+     * @param leadingLinefeed true to start with a line feed
+     * @param out             destination for the text
+     * @throws IOException if out can not be written
+     */
+    private void write(int view, boolean leadingLinefeed, Appendable out) throws IOException {
+        char[] line = new char[cols + 1];
+
+        if (leadingLinefeed) {
+            out.append(Constants.LINEFEED);
+        }
+
+        for (int row = 0; row < rows; row++) {
+            fillRow(view, row, line, 0);
+
+            if (out instanceof Writer) {
+                ((Writer) out).write(line, 0, line.length);
+            } else if (out instanceof StringBuilder) {
+                ((StringBuilder) out).append(line, 0, line.length);
+            } else {
+                for (char chr : line) {
+                    out.append(chr);
+                }
+            }
+        }
+    }
+
+    /**
+     * fills one row of a view followed by a line feed
+     *
+     * @param view   MINES_VIEW, TILES_VIEW or BOARD_VIEW
+     * @param row    row index
+     * @param dest   destination, needs room for cols + 1 chars
+     * @param offset position of the first char in dest
+     */
+    private void fillRow(int view, int row, char[] dest, int offset) {
+        int index = cellIndex(row, 0);
+
+        for (int col = 0; col < cols; col++, index++) {
+            byte cell = this.cells[index];
+
+            if (view == MINES_VIEW) {
+                dest[offset + col] = (char) ('0' + BoardCells.mine(cell));
+            } else if (view == TILES_VIEW) {
+                dest[offset + col] = (char) ('0' + BoardCells.tile(cell));
+            } else {
+                dest[offset + col] = boardChar(cell);
+            }
+        }
+
+        dest[offset + cols] = '\n'; //advance to next line
+    }
+
+    /**
+     * getBoard - determines current game board character for row,col position <br>
+     * using the mine and tile values of the packed cell<br>
+     * Note:  Level 2 values are returned when <br>
+     * game is over (ie. status is "win" or "lose")<br>
+     * <br><br>
+     * Level 1 values<br>
+     * '1'-'8'  opened tile showing clue value<br>
+     * ' '      opened tile blank<br>
+     * 'X'      tile closed<br>
+     * '?'      tile closed marked with ?<br>
+     * 'F'      tile closed marked with flag<br>
+     * '*'      mine<br>
+     * <br><br>
+     * Level 2 values<br>
+     * '-'      if game lost, mine that was incorrectly flagged<br>
+     * '!'      if game lost, mine that ended game<br>
+     * 'F'      if game won, all mines returned with F
+     * <br>
+     *
+     * @return char representing game board at row,col
+     */
+    public char getBoard(int row, int col) {
+        return boardChar(this.cells[cellIndex(row, col)]);
+    }
+
+    /**
+     * game board character for a packed cell, see getBoard
+     *
+     * @param cell packed cell
+     * @return char representing the cell on the game board
+     */
+    private char boardChar(byte cell) {
+        char chr = ' ';
+
+        int tile = BoardCells.tile(cell);
+        int mine = BoardCells.mine(cell);
+
+        if (tile == Constants.OPENED) {
+            if (mine == Constants.OPENED) {
+                chr = ' ';
+            } else {
+                chr = (char) ('0' + mine);
+            }
+        } else if (tile == Constants.CLOSED) {
+            chr = 'X';
+        } else if (tile == Constants.QUESTION) {
+            chr = '?';
+        } else if (tile == Constants.FLAG) {
+            chr = 'F';
+        }
+
+        if (this.status != GameStatus.PLAY) {
+            if (this.status == GameStatus.WIN) {
+                if (mine == Constants.FLAG) {
+                    chr = 'F';
+                }
+            } else if (mine == Constants.MINE && tile == Constants.OPENED) {
+                chr = '!';
+            } else if (mine == Constants.MINE) {
+                chr = '*';
+            } else if (tile == Constants.FLAG) {
+                chr = '-';
+            }
+        }
+
+        return chr;
+    }
+
+    /**
+     * create mines & tiles array
+     * place mines<br>
+     * update clues<br>
+     *
+     * @param newRows  number of rows for grid
+     * @param newCols  number of columns for grid
+     * @param newMines number of mines to place
+     * @param newSeed  seed for mine placement
+     * @param engine   board generation engine
+     */
+    private void initGame(int newRows, int newCols, int newMines, long newSeed, BoardEngine engine) {
+        //allocate space for mines and tiles array
+        if (newRows >= 1 && newCols >= 1) {
+            allocateCells(newRows, newCols);
+
+            mineCount = Math.max(0, Math.min(newMines, newRows * newCols));
+
+            generate(engine == BoardEngine.BITBOARD ? new MineBitboard(newRows, newCols) : null, newSeed);
+
+            //set game status
+            status = GameStatus.PLAY;
+        }
+    }
+
+    /**
+     * places mineCount mines from newSeed, calculates the clues,
+     * closes every tile and resets the status counters
+     *
+     * @param bitboard mine bitboard, null for the packed cells
+     * @param newSeed  seed for mine placement
+     */
+    private void generate(MineBitboard bitboard, long newSeed) {
+        seed = newSeed;
+
+        if ((long) rows * cols >= PARALLEL_THRESHOLD) {
+            generateParallel(bitboard, new SplittableRandom(newSeed));
+        } else {
+            generateStripe(bitboard, new SplittableRandom(newSeed), 0, rows, mineCount);
+            calculateClues(bitboard, 0, rows);
+        }
+
+        //reset status counters
+        unopenedSafeTiles = rows * cols - mineCount;
+        flagsPlaced = 0;
+        wrongFlags = 0;
+        changedCount = 0;
+    }
+
+    /**
+     * sets the board size and allocates the packed cells,
+     * all opened blank<br>
+     *
+     * @param newRows number of rows for grid
+     * @param newCols number of columns for grid
+     */
+    private void allocateCells(int newRows, int newCols) {
+        rows = newRows;
+        cols = newCols;
+        stride = newCols + 2;
+        neighbours = new int[]{
+                -stride - 1, -stride, -stride + 1,
+                -1, 1,
+                stride - 1, stride, stride + 1
+        };
+
+        //border cells stay 0 - opened blank
+        cells = new byte[(newRows + 2) * stride];
+    }
+
+    /**
+     * generates the board in row stripes on the fork/join pool<br>
+     * stripes have a fixed height and every stripe is given its
+     * share of the mines and its own generator split from the seed,
+     * so the board depends only on the seed and not on the number
+     * of cores<br>
+     * clues are calculated in a second pass once every stripe has
+     * placed its mines, so the rows above and below a stripe can
+     * be read without any coordination
+     *
+     * @param bitboard mine bitboard, null for the packed cells
+     * @param random   seeded random number generator
+     */
+    private void generateParallel(MineBitboard bitboard, SplittableRandom random) {
+        int stripes = (this.rows + STRIPE_ROWS - 1) / STRIPE_ROWS;
+        int[] stripeMines = new int[stripes];
+        SplittableRandom[] stripeRandoms = new SplittableRandom[stripes];
+        long cellTotal = (long) this.rows * this.cols;
+        int assigned = 0;
+
+        // each stripe gets the mines proportional to its size, rounded down.
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            long stripeCells = (long) stripeRows(stripe) * this.cols;
+            stripeMines[stripe] = (int) (this.mineCount * stripeCells / cellTotal);
+            assigned += stripeMines[stripe];
+        }
+
+        // the rounding remainder goes one each to randomly chosen stripes.
+        for (int j = stripes - (this.mineCount - assigned); j < stripes; j++) {
+            int pick = random.nextInt(j + 1);
+
+            if (stripeMines[pick] > (int) (this.mineCount * (long) stripeRows(pick) * this.cols / cellTotal)) {
+                pick = j;
+            }
+
+            stripeMines[pick]++;
+        }
+
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            stripeRandoms[stripe] = random.split();
+        }
+
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+
+        pool.invoke(new StripeTask(0, stripes, stripe ->
+                generateStripe(bitboard, stripeRandoms[stripe], stripe * STRIPE_ROWS,
+                        stripeRows(stripe), stripeMines[stripe])));
+
+        pool.invoke(new StripeTask(0, stripes, stripe ->
+                calculateClues(bitboard, stripe * STRIPE_ROWS,
+                        stripe * STRIPE_ROWS + stripeRows(stripe))));
+    }
+
+    /**
+     * number of rows in a stripe, the last stripe may be shorter
+     *
+     * @param stripe stripe index
+     * @return number of rows
+     */
+    private int stripeRows(int stripe) {
+        return Math.min(STRIPE_ROWS, this.rows - stripe * STRIPE_ROWS);
+    }
+
+    /**
+     * closes the tiles of a row stripe and places its mines
+     *
+     * @param bitboard  mine bitboard, null for the packed cells
+     * @param random    random number generator for this stripe
+     * @param firstRow  first row of the stripe
+     * @param rowCount  number of rows in the stripe
+     * @param mines     number of mines to place in the stripe
+     */
+    private void generateStripe(MineBitboard bitboard, SplittableRandom random,
+                                int firstRow, int rowCount, int mines) {
+        if (bitboard == null) {
+            //init tiles array
+            resetTiles(firstRow, firstRow + rowCount);
+        }
+
+        //place mines
+        placeMines(bitboard, random, firstRow, rowCount, mines);
+    }
+
+    /**
+     * updates clues for rows [fromRow, toRow)<br>
+     * the bitboard engine also writes the closed tiles
+     *
+     * @param bitboard mine bitboard, null for the packed cells
+     * @param fromRow  first row
+     * @param toRow    row after the last row
+     */
+    private void calculateClues(MineBitboard bitboard, int fromRow, int toRow) {
+        if (bitboard != null) {
+            //write clues and closed tiles
+            bitboard.writeCells(this.cells, cellIndex(0, 0), this.stride, fromRow, toRow, Constants.CLOSED);
+        } else {
+            //update clues
+            calculateClues(fromRow, toRow);
+        }
+    }
+
+    /**
+     * Sets tiles of rows [fromRow, toRow) to 1 - closed,
+     * the border is left opened
+     *
+     * @param fromRow first row
+     * @param toRow   row after the last row
+     */
+    private void resetTiles(int fromRow, int toRow) {
+        byte closed = BoardCells.cell(0, Constants.CLOSED);
+
+        for (int row = fromRow; row < toRow; row++) {
+            int first = cellIndex(row, 0);
+            Arrays.fill(this.cells, first, first + this.cols, closed);
+        }
+    }
+
+    /**
+     * places mines randomly on a row stripe of the grid
+     * integer value 9 represents a mine<br>
+     * uses Floyd's sampling, so each mine takes exactly one random
+     * draw and the cost does not depend on the mine density<br>
+     *
+     * @param bitboard mine bitboard to place into,
+     *                 null to place into the packed cells
+     * @param random   seeded random number generator
+     * @param firstRow first row of the stripe
+     * @param rowCount number of rows in the stripe
+     * @param mines    number of mines to place
+     */
+    private void placeMines(MineBitboard bitboard, SplittableRandom random,
+                            int firstRow, int rowCount, int mines) {
+        int colTotal = this.cols;
+        int cellTotal = rowCount * colTotal;
+
+        // for each j pick a cell in 0 ... j; if it already holds
+        // a mine, take cell j instead, which can not hold one yet.
+        for (int j = cellTotal - mines; j < cellTotal; j++) {
+            int pick = random.nextInt(j + 1);
+
+            if (isMine(bitboard, firstRow + pick / colTotal, pick % colTotal)) {
+                pick = j;
+            }
+
+            setMine(bitboard, firstRow + pick / colTotal, pick % colTotal);
+        }
+    }
+
+    /**
+     * determines if row,col holds a mine while placing mines
+     *
+     * @param bitboard mine bitboard, null for the packed cells
+     * @param row      row index
+     * @param col      column index
+     * @return true if row,col holds a mine
+     */
+    private boolean isMine(MineBitboard bitboard, int row, int col) {
+        return bitboard != null
+                ? bitboard.isMine(row, col)
+                : mine(cellIndex(row, col)) == Constants.MINE;
+    }
+
+    /**
+     * places a mine on row,col
+     *
+     * @param bitboard mine bitboard, null for the packed cells
+     * @param row      row index
+     * @param col      column index
+     */
+    private void setMine(MineBitboard bitboard, int row, int col) {
+        if (bitboard != null) {
+            bitboard.setMine(row, col);
+        } else {
+            int index = cellIndex(row, col);
+            this.cells[index] = BoardCells.withMine(this.cells[index], Constants.MINE);
+        }
+    }
+
+    /**
+     * calculates clue values and updates
+     * clue values in the packed cells<br>
+     * integer value 9 represents a mine<br>
+     * clue values will be 0 ... 8<br>
+     * only rows [fromRow, toRow) are updated, the rows around them
+     * are read for their mines only<br>
+     *
+     * @param fromRow first row
+     * @param toRow   row after the last row
+     */
+    private void calculateClues(int fromRow, int toRow) {
+        int[] neighbours = this.neighbours;
+
+        for (int row = fromRow; row < toRow; row++) {
+            int index = cellIndex(row, 0);
+
+            for (int col = 0; col < cols; col++, index++) {
+
+                // if the current row+col is itself a mine, then skip
+                // this iteration.
+                if (mine(index) == Constants.MINE) {
+                    continue;
+                }
+
+                int clue = 0;
+
+                // we will examine the perimeter of the current row+col
+                // to detect if mines exist.  as a mine is discovered,
+                // increment the clue value.  the border holds no mines,
+                // so edge cells need no bounds checks.
+                for (int offset : neighbours) {
+                    if (mine(index + offset) == Constants.MINE) {
+                        clue++;
+                    }
+                }
+
+                // assign the clue value.
+                cells[index] = BoardCells.withMine(cells[index], clue);
+            }
+        }
+    }
+
+    /**
+     * determines if row,col is valid position<br>
+     * uses range arithmetic only, no array access
+     *
+     * @param row row index
+     * @param col column index
+     * @return true if valid position on board,
+     * false if not valid board position
+     */
+    public boolean validIndex(int row, int col) {
+        return row >= 0 && row < this.rows && col >= 0 && col < this.cols;
+    }
+
+    /**
+     * Level 2 - game won status
+     *
+     * @return true if game won
+     * false if game not won
+     */
+    private boolean gameWon() {
+        return coveredTiles() == 0 && this.wrongFlags == 0;
+    }
+
+    public String toString() {
+        return this.toStringBoard();
+    }
+
+    /**
+     * fork/join task running work for each stripe in [from, to),
+     * splitting the range in half until single stripes remain
+     */
+    private static class StripeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from, to;
+        private final IntConsumer work;
+
+        StripeTask(int from, int to, IntConsumer work) {
+            this.from = from;
+            this.to = to;
+            this.work = work;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from == 1) {
+                this.work.accept(this.from);
+            } else {
+                int mid = (this.from + this.to) >>> 1;
+                invokeAll(new StripeTask(this.from, mid, this.work),
+                        new StripeTask(mid, this.to, this.work));
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -116,9 +116,15 @@ public class minesweeperTest {
             }
         }
 
+        int[] transitions = new int[1];
+        game.addStatusListener((changed, oldStatus, newStatus) -> transitions[0]++);
+
         game.markTile(mineAtRow, mineAtCol, Constants.OPENED);
         System.out.println("Marked tile that contains mine as OPEN (0), expecting gameStatus to be lose, got: "
                 + game.getStatus());
+        System.out.println("\tTyped game status, expecting LOSE, got: " + game.getGameStatus().name());
+        game.markTile(mineAtRow, mineAtCol, Constants.OPENED);
+        System.out.println("\tStatus listener calls after two moves, expecting 1, got: " + transitions[0]);
 
         System.out.println();
 
@@ -138,6 +144,17 @@ public class minesweeperTest {
 
         System.out.println();
 
+        // ---------------------------------------------------------------------------------------------------
+        System.out.println("Confirming seeded boards are reproducible...");
+        minesweeper seeded = new minesweeper(16, 30, 99, 12345L);
+        minesweeper reseeded = new minesweeper(16, 30, 99, 12345L);
+        System.out.println("\tCompared two 16x30 boards with seed 12345, expecting true, got: "
+                + seeded.toStringMines().equals(reseeded.toStringMines()));
+        System.out.println("\tCounted mines on seeded board, expecting 99, got: " + seeded.getMineCount());
+
+        System.out.println();
+        // ---------------------------------------------------------------------------------------------------
+
         System.out.println("Calling toStringMines():");
         System.out.println(game.toStringMines());
 
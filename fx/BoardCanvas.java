@@ -0,0 +1,250 @@
+//********************************************************************
+//  BoardCanvas.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  Board renderer drawing the game on a single JavaFX Canvas.  Only
+//  the tiles inside the visible viewport are drawn, so boards far
+//  larger than the window need no per-tile nodes.  The mouse wheel
+//  scrolls (shift for sideways), ctrl + wheel zooms.
+//********************************************************************
+
+import javafx.event.ActionEvent;
+import javafx.event.EventHandler;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+
+public class BoardCanvas extends Region implements BoardView {
+    // tile size at 100% zoom, matches image dimensions.
+    private static final double TILE_SIZE = 32;
+    // smallest and largest tile size when zooming.
+    private static final double MIN_TILE_SIZE = 4, MAX_TILE_SIZE = 64;
+    // zoom factor for one wheel step.
+    private static final double ZOOM_STEP = 1.25;
+    // largest preferred viewport, in pixels.
+    private static final double MAX_VIEW_WIDTH = 880, MAX_VIEW_HEIGHT = 800;
+
+    // closed tile colors.
+    private static final Color CLOSED_FILL = Color.LIGHTGRAY;
+    private static final Color CLOSED_EDGE = Color.GRAY;
+
+    // interface to the game data.
+    private final GameData gameData;
+    // board dimensions.
+    private final int rows, cols;
+    // the canvas, always the size of the viewport.
+    private final Canvas canvas = new Canvas();
+    // callback for when a tile is marked.
+    private EventHandler<ActionEvent> onTileMarked;
+
+    // current tile size in pixels.
+    private double tileSize = TILE_SIZE;
+    // board pixel shown at the top left corner of the viewport.
+    private double scrollX, scrollY;
+    // game status the tiles are drawn for.
+    private GameStatus status = GameStatus.PLAY;
+
+    //-----------------------------------------------------------------
+    //  Constructor.  Requires the gameData interface.
+    //-----------------------------------------------------------------
+    public BoardCanvas(GameData gameData) {
+        this.gameData = gameData;
+        this.rows = gameData.getRows();
+        this.cols = gameData.getCols();
+
+        this.getChildren().add(this.canvas);
+        this.setPrefSize(
+                Math.min(this.cols * TILE_SIZE, MAX_VIEW_WIDTH),
+                Math.min(this.rows * TILE_SIZE, MAX_VIEW_HEIGHT)
+        );
+
+        this.canvas.setOnMouseClicked(this::handleOnMouseClicked);
+        this.setOnScroll(this::handleOnScroll);
+    }
+
+    //-----------------------------------------------------------------
+    //  JavaFX node showing the board.
+    //-----------------------------------------------------------------
+    public Node getNode() {
+        return this;
+    }
+
+    //-----------------------------------------------------------------
+    //  OnTileMarked EventHandler.
+    //-----------------------------------------------------------------
+    public void setOnTileMarked(EventHandler<ActionEvent> value) {
+        this.onTileMarked = value;
+    }
+
+    //-----------------------------------------------------------------
+    //  Redraw every visible tile.
+    //-----------------------------------------------------------------
+    public void refresh(GameStatus status) {
+        this.status = status;
+        paintAll();
+    }
+
+    //-----------------------------------------------------------------
+    //  Redraw the given tiles, skipping those outside the viewport.
+    //-----------------------------------------------------------------
+    public void refresh(int[] cells, GameStatus status) {
+        this.status = status;
+
+        GraphicsContext gc = this.canvas.getGraphicsContext2D();
+
+        for (int index : cells) {
+            int row = index / this.cols;
+            int col = index - row * this.cols;
+
+            if (isVisible(row, col)) {
+                paintTile(gc, row, col);
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Keep the canvas the size of the viewport.
+    //-----------------------------------------------------------------
+    @Override
+    protected void layoutChildren() {
+        double width = getWidth();
+        double height = getHeight();
+
+        if (this.canvas.getWidth() != width || this.canvas.getHeight() != height) {
+            this.canvas.setWidth(width);
+            this.canvas.setHeight(height);
+            clampScroll();
+            paintAll();
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Draw every tile inside the viewport.
+    //-----------------------------------------------------------------
+    private void paintAll() {
+        GraphicsContext gc = this.canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, this.canvas.getWidth(), this.canvas.getHeight());
+
+        int firstRow = (int) (this.scrollY / this.tileSize);
+        int firstCol = (int) (this.scrollX / this.tileSize);
+        int lastRow = Math.min(this.rows - 1,
+                (int) ((this.scrollY + this.canvas.getHeight()) / this.tileSize));
+        int lastCol = Math.min(this.cols - 1,
+                (int) ((this.scrollX + this.canvas.getWidth()) / this.tileSize));
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                paintTile(gc, row, col);
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Draw one tile at its viewport position.
+    //-----------------------------------------------------------------
+    private void paintTile(GraphicsContext gc, int row, int col) {
+        double x = col * this.tileSize - this.scrollX;
+        double y = row * this.tileSize - this.scrollY;
+        double size = this.tileSize;
+
+        Image image = TileImages.forTile(
+                this.gameData.getTiles(row, col),
+                this.gameData.getMines(row, col),
+                this.status
+        );
+
+        if (image != null) {
+            gc.drawImage(image, x, y, size, size);
+        } else {
+            gc.setFill(CLOSED_FILL);
+            gc.fillRect(x, y, size, size);
+            gc.setStroke(CLOSED_EDGE);
+            gc.strokeRect(x + 0.5, y + 0.5, size - 1, size - 1);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Returns true if any part of the tile is inside the viewport.
+    //-----------------------------------------------------------------
+    private boolean isVisible(int row, int col) {
+        double x = col * this.tileSize - this.scrollX;
+        double y = row * this.tileSize - this.scrollY;
+
+        return x + this.tileSize > 0 && x < this.canvas.getWidth()
+                && y + this.tileSize > 0 && y < this.canvas.getHeight();
+    }
+
+    //-----------------------------------------------------------------
+    //  Keep the scroll position within the board.
+    //-----------------------------------------------------------------
+    private void clampScroll() {
+        double maxX = Math.max(0, this.cols * this.tileSize - this.canvas.getWidth());
+        double maxY = Math.max(0, this.rows * this.tileSize - this.canvas.getHeight());
+
+        this.scrollX = Math.max(0, Math.min(this.scrollX, maxX));
+        this.scrollY = Math.max(0, Math.min(this.scrollY, maxY));
+    }
+
+    //-----------------------------------------------------------------
+    //  Mouse wheel handler.  Scrolls, or zooms around the mouse
+    //  pointer when ctrl is held down.
+    //-----------------------------------------------------------------
+    private void handleOnScroll(ScrollEvent event) {
+        if (event.isControlDown()) {
+            double oldSize = this.tileSize;
+            double newSize = event.getDeltaY() > 0 ? oldSize * ZOOM_STEP : oldSize / ZOOM_STEP;
+            newSize = Math.max(MIN_TILE_SIZE, Math.min(MAX_TILE_SIZE, newSize));
+
+            // keep the board point under the mouse pointer in place.
+            double scale = newSize / oldSize;
+            this.scrollX = (this.scrollX + event.getX()) * scale - event.getX();
+            this.scrollY = (this.scrollY + event.getY()) * scale - event.getY();
+            this.tileSize = newSize;
+        } else {
+            this.scrollX -= event.getDeltaX();
+            this.scrollY -= event.getDeltaY();
+        }
+
+        clampScroll();
+        paintAll();
+        event.consume();
+    }
+
+    //-----------------------------------------------------------------
+    //  Mouse click handler.  Maps the click to a tile and marks it.
+    //-----------------------------------------------------------------
+    private void handleOnMouseClicked(MouseEvent event) {
+        int row = (int) Math.floor((event.getY() + this.scrollY) / this.tileSize);
+        int col = (int) Math.floor((event.getX() + this.scrollX) / this.tileSize);
+
+        if (row < 0 || row >= this.rows || col < 0 || col >= this.cols) {
+            return;
+        }
+
+        MouseButton button = event.getButton();
+
+        if (button.equals(MouseButton.PRIMARY)) {
+            this.gameData.markTile(row, col, Constants.OPENED);
+        }
+
+        if (button.equals(MouseButton.MIDDLE)) {
+            this.gameData.markTile(row, col, Constants.QUESTION);
+        }
+
+        if (button.equals(MouseButton.SECONDARY)) {
+            this.gameData.markTile(row, col, Constants.FLAG);
+        }
+
+        if (this.onTileMarked != null) {
+            this.onTileMarked.handle(new ActionEvent(this, null));
+        }
+    }
+}
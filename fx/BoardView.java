@@ -1,31 +1,37 @@
 //********************************************************************
-//  Constants.java
+//  BoardView.java
 //
 //  Author: David J. Gardner
-//  Date: 4/27/18
+//  Date: 10/18/26
 //
-//  Interface to provide generalized accessors to game data.
+//  Interface for the JavaFX renderers of a game board.  TileGrid
+//  shows one button per tile, BoardCanvas draws the visible part of
+//  the board on a single canvas.
 //********************************************************************
 
-public interface GameData {
+import javafx.event.ActionEvent;
+import javafx.event.EventHandler;
+import javafx.scene.Node;
+
+public interface BoardView {
 
     //-----------------------------------------------------------------
-    //  Game status accessor.
+    //  JavaFX node showing the board.
     //-----------------------------------------------------------------
-    String getStatus();
+    Node getNode();
 
     //-----------------------------------------------------------------
-    //  Mine accessor.
+    //  OnTileMarked EventHandler, called after a tile was marked.
     //-----------------------------------------------------------------
-    int getMines(int row, int col);
+    void setOnTileMarked(EventHandler<ActionEvent> value);
 
     //-----------------------------------------------------------------
-    //  Tile accessor.
+    //  Redraw every tile for the given game status.
     //-----------------------------------------------------------------
-    int getTiles(int row, int col);
+    void refresh(GameStatus status);
 
     //-----------------------------------------------------------------
-    //  Tile mutator.
+    //  Redraw the given tiles, as row * cols + col indexes.
     //-----------------------------------------------------------------
-    void markTile(int row, int col, int tile);
-}
\ No newline at end of file
+    void refresh(int[] cells, GameStatus status);
+}
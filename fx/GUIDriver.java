@@ -4,7 +4,12 @@
 //  Author: David J. Gardner
 //  Date: 4/29/18
 //
-//  GUI driver for MinesweeperFX.
+//  GUI driver for MinesweeperFX.  Besides the three levels, the
+//  Level menu takes a custom board size; boards larger than 32 x 32
+//  are drawn on a scrolling, zooming canvas.  A custom board can also
+//  be given on the command line:
+//
+//      java GUIDriver [rows cols mines]
 //********************************************************************
 
 import javafx.application.Application;
@@ -13,22 +18,38 @@ import javafx.event.EventHandler;
 import javafx.geometry.Pos;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.Label;
 import javafx.scene.control.Menu;
 import javafx.scene.control.MenuBar;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.RadioMenuItem;
+import javafx.scene.control.TextField;
+import javafx.scene.control.Toggle;
 import javafx.scene.control.ToggleGroup;
+import javafx.scene.layout.GridPane;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 
+import java.util.List;
+import java.util.Optional;
+
 public class GUIDriver extends Application {
+    // largest custom board side.
+    private static final int MAX_CUSTOM_SIDE = 1000;
+
     // primary UI stage
     private Stage primaryStage;
     // root object used by the scene
     private VBox root;
 
-    // game level enumeration
+    // game level enumeration, null for a custom board
     private GameLevel gameLevel;
+    // custom board size and mine count
+    private int customRows, customCols, customMines;
+    // menu item for the custom board, labelled with its size
+    private RadioMenuItem customItem;
 
     //-----------------------------------------------------------------
     //  JavaFX application start method.
@@ -49,12 +70,23 @@ public class GUIDriver extends Application {
         root.setAlignment(Pos.TOP_CENTER);
         root.getChildren().addAll(getMenuBar());
 
+        // decode the tile graphics once, up front.
+        TileImages.preload();
+
         Scene scene = new Scene(root);
         this.primaryStage.setScene(scene);
 
-        // set the default game level.
+        // set the default game level, or the board on the command line.
         setGameLevel(GameLevel.BEGINNER);
 
+        int[] board = parseBoard(getParameters().getRaw());
+
+        if (board != null) {
+            setCustomBoard(board[0], board[1], board[2]);
+            this.customItem.setSelected(true);
+            startGame();
+        }
+
         // fix the size of the game window.
         this.primaryStage.setResizable(false);
         this.primaryStage.show();
@@ -67,19 +99,13 @@ public class GUIDriver extends Application {
         minesweeper ms;
         int timeout; // game timer, in minutes
 
-        switch (this.gameLevel) {
-
-            case INTERMEDIATE:
-                ms = new minesweeper(16, 16);
-                timeout = 10;
-                break;
-            case EXPERT:
-                ms = new minesweeper(24, 24);
-                timeout = 15;
-                break;
-            default:
-                ms = new minesweeper(9, 9);
-                timeout = 5;
+        if (this.gameLevel != null) {
+            ms = this.gameLevel.newGame();
+            timeout = this.gameLevel.getTimeout();
+        } else {
+            ms = new minesweeper(this.customRows, this.customCols, this.customMines,
+                    System.nanoTime());
+            timeout = GameSession.timeoutFor(this.customRows, this.customCols);
         }
 
         MinesweeperFX msFx = new MinesweeperFX(ms, timeout);
@@ -93,6 +119,11 @@ public class GUIDriver extends Application {
         } else {
             this.root.getChildren().add(gameUI);
         }
+
+        // a custom board has no fixed window size, fit it to the board.
+        if (this.gameLevel == null) {
+            this.primaryStage.sizeToScene();
+        }
     }
 
     //-----------------------------------------------------------------
@@ -140,7 +171,13 @@ public class GUIDriver extends Application {
                         "Expert - 24x24",
                         false,
                         group,
-                        event -> setGameLevel(GameLevel.EXPERT))
+                        event -> setGameLevel(GameLevel.EXPERT)),
+
+                this.customItem = getRadioMenuItem(
+                        "Custom...",
+                        false,
+                        group,
+                        event -> chooseCustomBoard(group))
         );
 
         menuBar.getMenus().addAll(fileMenu, levelMenu);
@@ -176,6 +213,89 @@ public class GUIDriver extends Application {
         this.primaryStage.setHeight(height);
     }
 
+    //-----------------------------------------------------------------
+    //  Sets a custom board.  The window is sized when the game starts.
+    //-----------------------------------------------------------------
+    private void setCustomBoard(int rows, int cols, int mines) {
+        this.gameLevel = null;
+        this.customRows = rows;
+        this.customCols = cols;
+        this.customMines = mines;
+        this.customItem.setText("Custom - " + rows + "x" + cols + "...");
+    }
+
+    //-----------------------------------------------------------------
+    //  Asks for a custom board size and mine count.  If the dialog is
+    //  cancelled or the values are not valid, the previous level
+    //  stays selected.
+    //-----------------------------------------------------------------
+    private void chooseCustomBoard(ToggleGroup group) {
+        Toggle previous = this.gameLevel == null ? this.customItem : levelItem(group);
+
+        boolean custom = this.gameLevel == null;
+        TextField rows = new TextField(Integer.toString(custom ? this.customRows : 100));
+        TextField cols = new TextField(Integer.toString(custom ? this.customCols : 100));
+        TextField mines = new TextField(Integer.toString(custom ? this.customMines : 1500));
+
+        GridPane grid = new GridPane();
+        grid.setHgap(10);
+        grid.setVgap(10);
+        grid.addRow(0, new Label("Rows (1-" + MAX_CUSTOM_SIDE + ")"), rows);
+        grid.addRow(1, new Label("Columns (1-" + MAX_CUSTOM_SIDE + ")"), cols);
+        grid.addRow(2, new Label("Mines"), mines);
+
+        Dialog<ButtonType> dialog = new Dialog<>();
+        dialog.initOwner(this.primaryStage);
+        dialog.setTitle("Custom board");
+        dialog.getDialogPane().setContent(grid);
+        dialog.getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
+
+        Optional<ButtonType> answer = dialog.showAndWait();
+        int[] board = answer.isPresent() && answer.get() == ButtonType.OK
+                ? parseBoard(List.of(rows.getText(), cols.getText(), mines.getText()))
+                : null;
+
+        if (board != null) {
+            setCustomBoard(board[0], board[1], board[2]);
+        } else {
+            group.selectToggle(previous);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Menu item of the current game level.
+    //-----------------------------------------------------------------
+    private Toggle levelItem(ToggleGroup group) {
+        return group.getToggles().get(this.gameLevel.ordinal());
+    }
+
+    //-----------------------------------------------------------------
+    //  Parses rows, cols and mines.  Returns null unless there are
+    //  exactly three whole numbers, both sides are 1 to
+    //  MAX_CUSTOM_SIDE and at least one tile is free of mines.
+    //-----------------------------------------------------------------
+    private static int[] parseBoard(List<String> args) {
+        if (args.size() != 3) {
+            return null;
+        }
+
+        int[] board = new int[3];
+
+        try {
+            for (int i = 0; i < 3; i++) {
+                board[i] = Integer.parseInt(args.get(i).trim());
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+
+        boolean valid = board[0] >= 1 && board[0] <= MAX_CUSTOM_SIDE
+                && board[1] >= 1 && board[1] <= MAX_CUSTOM_SIDE
+                && board[2] >= 0 && board[2] < board[0] * board[1];
+
+        return valid ? board : null;
+    }
+
     //-----------------------------------------------------------------
     //  Create new JavaFX menu item with the provided parameters.
     //-----------------------------------------------------------------
@@ -10,11 +10,8 @@
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.event.ActionEvent;
-import javafx.geometry.Insets;
 import javafx.geometry.Pos;
-import javafx.scene.Node;
 import javafx.scene.Parent;
-import javafx.scene.layout.GridPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
@@ -22,6 +19,9 @@ import javafx.scene.text.Text;
 import javafx.util.Duration;
 
 public class MinesweeperFX {
+    // boards with more tiles than this are drawn on a canvas.
+    private static final int CANVAS_THRESHOLD = 32 * 32;
+
     // the minesweeper game. reference to this object cannot be changed (final).
     private final minesweeper minesweeper;
 
@@ -33,8 +33,10 @@ public class MinesweeperFX {
     // text field for game status, game instructions, and game timer
     private Text gameStatusText, instructionsText, timerText;
 
-    // the game's grid that represents the array.
-    private GridPane grid;
+    // the game's board that represents the array.
+    private BoardView board;
+    // set when the status changed since the tiles were last refreshed.
+    private boolean statusChanged;
 
     //-----------------------------------------------------------------
     //  Constructor.  Accepts the minesweeper game.
@@ -48,17 +50,22 @@ public class MinesweeperFX {
         this.instructionsText = getInstructionsText();
         this.timerText = getText(15);
 
-        this.grid = getGrid();
-
         int cols = minesweeper.getCols();
         int rows = minesweeper.getRows();
 
-        for (int col = 0; col < cols; col++) {
-            for (int row = 0; row < rows; row++) {
-                TileButton tb = getTileButton(col, row, minesweeper);
-                this.grid.add(tb, col, row);
-            }
-        }
+        // one button per tile for the standard levels, larger
+        // boards only draw the tiles that are in view.
+        this.board = rows * cols > CANVAS_THRESHOLD
+                ? new BoardCanvas(minesweeper)
+                : new TileGrid(minesweeper);
+        this.board.setOnTileMarked(event -> refreshChanged());
+
+        // the status display only changes on a status transition,
+        // which is also when every tile needs to be redrawn.
+        minesweeper.addStatusListener((game, oldStatus, newStatus) -> {
+            this.statusChanged = true;
+            showStatus(newStatus);
+        });
 
         this.timer = new Timeline();
         timer.setCycleCount(Timeline.INDEFINITE);
@@ -68,6 +75,7 @@ public class MinesweeperFX {
         timer.playFromStart();
 
         // draw the display
+        showStatus(getStatus());
         refresh();
     }
 
@@ -81,7 +89,7 @@ public class MinesweeperFX {
         vbox.getChildren().addAll(
                 this.instructionsText,
                 this.gameStatusText,
-                this.grid,
+                this.board.getNode(),
                 this.timerText
         );
 
@@ -92,39 +100,61 @@ public class MinesweeperFX {
     //  Refresh the game's display.
     //-----------------------------------------------------------------
     private void refresh() {
-        String status = getStatus();
+        GameStatus status = getStatus();
 
-        Color playColor = Color.GREEN;
-        Color winColor = Color.BLUE;
-        Color loseColor = Color.DARKRED;
+        refreshTimerText();
+
+        // notify all tiles to refresh their state.
+        this.board.refresh(status);
+    }
+
+    //-----------------------------------------------------------------
+    //  Refresh the display after a tile was marked.  Only the tiles
+    //  changed by the move are redrawn, unless the status changed.
+    //-----------------------------------------------------------------
+    private void refreshChanged() {
+        if (this.statusChanged) {
+            this.statusChanged = false;
+            refresh();
+        } else {
+            this.board.refresh(this.minesweeper.getChangedCells(), getStatus());
+        }
+    }
 
+    //-----------------------------------------------------------------
+    //  Refresh the time remaining text.
+    //-----------------------------------------------------------------
+    private void refreshTimerText() {
         this.timerText.setText(
                 "Time's up in " + this.timeout
                         + (this.timeout == 1 ? " minute..." : " minutes...")
         );
+    }
 
-        if (status.equals(Constants.PLAY)) {
-            this.gameStatusText.setFill(playColor);
-            this.gameStatusText.setText("GAME IN PROGRESS");
-        }
-
-        if (status.equals(Constants.LOSE)) {
-            this.gameStatusText.setFill(loseColor);
-            this.gameStatusText.setText("YOU HAVE LOST");
-
-            endGame();
-        }
-
-        if (status.equals(Constants.WIN)) {
-            this.gameStatusText.setFill(winColor);
-            this.gameStatusText.setText("YOU HAVE WON!");
-
-            endGame();
-        }
+    //-----------------------------------------------------------------
+    //  Show the game status.  Called when the status changes.
+    //-----------------------------------------------------------------
+    private void showStatus(GameStatus status) {
+        Color playColor = Color.GREEN;
+        Color winColor = Color.BLUE;
+        Color loseColor = Color.DARKRED;
 
-        // notify all tiles to refresh their state.
-        for (Node node : this.grid.getChildren()) {
-            ((TileButton) node).refresh();
+        switch (status) {
+            case LOSE:
+                this.gameStatusText.setFill(loseColor);
+                this.gameStatusText.setText("YOU HAVE LOST");
+
+                endGame();
+                break;
+            case WIN:
+                this.gameStatusText.setFill(winColor);
+                this.gameStatusText.setText("YOU HAVE WON!");
+
+                endGame();
+                break;
+            default:
+                this.gameStatusText.setFill(playColor);
+                this.gameStatusText.setText("GAME IN PROGRESS");
         }
     }
 
@@ -138,48 +168,27 @@ public class MinesweeperFX {
             this.timeout = 0;
         }
 
-        refresh();
+        if (this.timeout == 0) {
+            showStatus(GameStatus.LOSE);
+            refresh();
+        } else {
+            refreshTimerText();
+        }
     }
 
     //-----------------------------------------------------------------
     //  Get the game status.
     //-----------------------------------------------------------------
-    private String getStatus() {
-        return this.timeout <= 0 ? Constants.LOSE : this.minesweeper.getStatus();
+    private GameStatus getStatus() {
+        return this.timeout <= 0 ? GameStatus.LOSE : this.minesweeper.getGameStatus();
     }
 
     //-----------------------------------------------------------------
-    //  End the game by stopping the timer and disabling game grid.
+    //  End the game by stopping the timer and disabling game board.
     //-----------------------------------------------------------------
     private void endGame() {
         this.timer.stop();
-        this.grid.setDisable(true);
-    }
-
-    //-----------------------------------------------------------------
-    //  Create and return new JavaFX GridPane
-    //-----------------------------------------------------------------
-    private GridPane getGrid() {
-        GridPane grid = new GridPane();
-        grid.setPadding(new Insets(5));
-        grid.setHgap(2);
-        grid.setVgap(2);
-        grid.setAlignment(Pos.CENTER);
-
-        return grid;
-    }
-
-    //-----------------------------------------------------------------
-    //  Create and return new JavaFX TileButton
-    //-----------------------------------------------------------------
-    private TileButton getTileButton(int col, int row, GameData gameData) {
-        final int SIZE = 32; // matches image dimensions
-
-        TileButton tb = new TileButton(col, row, gameData);
-        tb.setPrefSize(SIZE, SIZE);
-        tb.setOnTileMarked(event -> refresh());
-
-        return tb;
+        this.board.getNode().setDisable(true);
     }
 
     //-----------------------------------------------------------------
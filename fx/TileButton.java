@@ -23,6 +23,8 @@ public class TileButton extends Button {
     private GameData gameData;
     // callback for when tile is marked.
     private EventHandler<ActionEvent> onTileMarked;
+    // the tile's graphic, reused for every image the tile shows.
+    private final ImageView imageView = new ImageView();
 
     //-----------------------------------------------------------------
     //  Constructor.  Requires col, row, and gameData interface.
@@ -43,57 +45,25 @@ public class TileButton extends Button {
     }
 
     //-----------------------------------------------------------------
-    //  Refresh the tile's display.
+    //  Refresh the tile's display for the given game status.  The
+    //  image is only swapped when the tile's look actually changes.
     //-----------------------------------------------------------------
-    public void refresh() {
+    public void refresh(GameStatus status) {
         int tile = getTile();
         int mine = getMine();
-        String status = getStatus();
-
-        String url = null;
-
-        if (status.equals(Constants.PLAY)) {
-
-            switch (tile) {
-                case Constants.OPENED:
-                    url = mine == 0
-                            ? "open.png"
-                            : Integer.toString(mine).substring(0, 1) + ".png";
-                    break;
-                case Constants.CLOSED:
-                    url = null; // no graphic
-                    break;
-                case Constants.QUESTION:
-                    url = "question.png";
-                    break;
-                case Constants.FLAG:
-                    url = "flag.png";
-                    break;
-            }
-        }
-
-        if (status.equals(Constants.LOSE)) {
-            this.setDisable(true);
 
-            if (tile == Constants.OPENED && mine == Constants.MINE) {
-                url = "minered.png";
-            } else if (tile > Constants.OPENED && mine == Constants.MINE) {
-                url = "mine.png";
-            } else if (tile == Constants.FLAG && mine < Constants.MINE) {
-                url = "minex.png"; // user marked this as a mine but wasn't!
-            }
-        }
+        Image image = TileImages.forTile(tile, mine, status);
 
-        if (status.equals(Constants.WIN)) {
-            url = "smile.png";
+        if (status == GameStatus.LOSE) {
+            this.setDisable(true);
         }
 
-        if (url != null) {
-            this.getChildren().clear();
+        if (image != this.imageView.getImage()) {
+            this.imageView.setImage(image);
 
-            Image img = new Image(url);
-            ImageView iv = new ImageView(img);
-            this.getChildren().addAll(iv);
+            if (this.imageView.getParent() != this) {
+                this.getChildren().add(this.imageView);
+            }
         }
     }
 
@@ -111,13 +81,6 @@ public class TileButton extends Button {
         return this.gameData.getMines(this.row, this.col);
     }
 
-    //-----------------------------------------------------------------
-    //  Game status accessor.
-    //-----------------------------------------------------------------
-    private String getStatus() {
-        return this.gameData.getStatus();
-    }
-
     //-----------------------------------------------------------------
     //  Mouse click handler.
     //-----------------------------------------------------------------
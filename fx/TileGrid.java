@@ -0,0 +1,106 @@
+//********************************************************************
+//  TileGrid.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  Board renderer with one TileButton per tile in a GridPane.
+//********************************************************************
+
+import javafx.event.ActionEvent;
+import javafx.event.EventHandler;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.layout.GridPane;
+
+public class TileGrid implements BoardView {
+    // the game's grid that represents the array.
+    private final GridPane grid;
+    // tile buttons indexed by row * cols + col.
+    private final TileButton[] tileButtons;
+    // callback for when a tile is marked.
+    private EventHandler<ActionEvent> onTileMarked;
+
+    //-----------------------------------------------------------------
+    //  Constructor.  Creates a button for every tile of the game.
+    //-----------------------------------------------------------------
+    public TileGrid(GameData gameData) {
+        this.grid = getGrid();
+
+        int cols = gameData.getCols();
+        int rows = gameData.getRows();
+
+        this.tileButtons = new TileButton[rows * cols];
+
+        for (int col = 0; col < cols; col++) {
+            for (int row = 0; row < rows; row++) {
+                TileButton tb = getTileButton(col, row, gameData);
+                this.grid.add(tb, col, row);
+                this.tileButtons[row * cols + col] = tb;
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  JavaFX node showing the board.
+    //-----------------------------------------------------------------
+    public Node getNode() {
+        return this.grid;
+    }
+
+    //-----------------------------------------------------------------
+    //  OnTileMarked EventHandler.
+    //-----------------------------------------------------------------
+    public void setOnTileMarked(EventHandler<ActionEvent> value) {
+        this.onTileMarked = value;
+    }
+
+    //-----------------------------------------------------------------
+    //  Refresh every tile.
+    //-----------------------------------------------------------------
+    public void refresh(GameStatus status) {
+        for (TileButton tb : this.tileButtons) {
+            tb.refresh(status);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Refresh the given tiles.
+    //-----------------------------------------------------------------
+    public void refresh(int[] cells, GameStatus status) {
+        for (int index : cells) {
+            this.tileButtons[index].refresh(status);
+        }
+    }
+
+    //-----------------------------------------------------------------
+    //  Create and return new JavaFX GridPane
+    //-----------------------------------------------------------------
+    private GridPane getGrid() {
+        GridPane grid = new GridPane();
+        grid.setPadding(new Insets(5));
+        grid.setHgap(2);
+        grid.setVgap(2);
+        grid.setAlignment(Pos.CENTER);
+
+        return grid;
+    }
+
+    //-----------------------------------------------------------------
+    //  Create and return new JavaFX TileButton
+    //-----------------------------------------------------------------
+    private TileButton getTileButton(int col, int row, GameData gameData) {
+        final int SIZE = 32; // matches image dimensions
+
+        TileButton tb = new TileButton(col, row, gameData);
+        tb.setPrefSize(SIZE, SIZE);
+        tb.setOnTileMarked(event -> {
+            if (this.onTileMarked != null) {
+                this.onTileMarked.handle(event);
+            }
+        });
+
+        return tb;
+    }
+}
@@ -0,0 +1,89 @@
+//********************************************************************
+//  TileImages.java
+//
+//  Author: David J. Gardner
+//  Date: 10/18/26
+//
+//  Shared cache of the tile graphics.  Every image is decoded once,
+//  when this class is first used, and shared by all tile buttons.
+//********************************************************************
+
+import javafx.scene.image.Image;
+
+public final class TileImages {
+    // opened tiles, indexed by clue value.  0 is the blank tile.
+    private static final Image[] CLUES = new Image[9];
+
+    static {
+        CLUES[0] = new Image("open.png");
+
+        for (int clue = 1; clue < CLUES.length; clue++) {
+            CLUES[clue] = new Image(clue + ".png");
+        }
+    }
+
+    // tile marked with a question mark.
+    public static final Image QUESTION = new Image("question.png");
+    // tile marked with a flag.
+    public static final Image FLAG = new Image("flag.png");
+    // mine shown when the game is lost.
+    public static final Image MINE = new Image("mine.png");
+    // mine that ended the game.
+    public static final Image MINE_RED = new Image("minered.png");
+    // flag that was not on a mine.
+    public static final Image MINE_X = new Image("minex.png");
+    // every tile when the game is won.
+    public static final Image SMILE = new Image("smile.png");
+
+    //-----------------------------------------------------------------
+    //  Not instantiable.
+    //-----------------------------------------------------------------
+    private TileImages() {
+    }
+
+    //-----------------------------------------------------------------
+    //  Decodes all images.  Call at startup so the first game does
+    //  not pay for the decoding.
+    //-----------------------------------------------------------------
+    public static void preload() {
+        // loading the class has decoded every image.
+    }
+
+    //-----------------------------------------------------------------
+    //  Opened tile image for the given clue value, 0 for blank.
+    //-----------------------------------------------------------------
+    public static Image clue(int clue) {
+        return CLUES[clue];
+    }
+
+    //-----------------------------------------------------------------
+    //  Image for a tile with the given tile and mine values, null
+    //  for a closed tile without graphic.
+    //-----------------------------------------------------------------
+    public static Image forTile(int tile, int mine, GameStatus status) {
+        if (status == GameStatus.WIN) {
+            return SMILE;
+        }
+
+        if (status == GameStatus.LOSE) {
+            if (tile == Constants.OPENED && mine == Constants.MINE) {
+                return MINE_RED;
+            } else if (tile > Constants.OPENED && mine == Constants.MINE) {
+                return MINE;
+            } else if (tile == Constants.FLAG && mine < Constants.MINE) {
+                return MINE_X; // user marked this as a mine but wasn't!
+            }
+        }
+
+        switch (tile) {
+            case Constants.OPENED:
+                return clue(mine);
+            case Constants.QUESTION:
+                return QUESTION;
+            case Constants.FLAG:
+                return FLAG;
+            default:
+                return null; // no graphic
+        }
+    }
+}